@@ -0,0 +1,60 @@
+package com.smartprogrammingbaddies.benchmarks;
+
+import com.smartprogrammingbaddies.client.Client;
+import com.smartprogrammingbaddies.event.Event;
+import com.smartprogrammingbaddies.organization.Organization;
+import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import com.smartprogrammingbaddies.utils.TimeSlot;
+import com.smartprogrammingbaddies.volunteer.Volunteer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of describing an event with many volunteers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventBenchmark {
+  @Param({"10", "1000", "100000"})
+  private int volunteers;
+
+  private Event event;
+
+  /**
+   * Creates the event and its volunteers.
+   */
+  @Setup
+  public void setUp() {
+    Set<Volunteer> signedUp = new HashSet<>();
+    for (int i = 0; i < volunteers; i++) {
+      Volunteer volunteer = new Volunteer("Volunteer " + i, "Helper", "2024-01-01",
+          new HashMap<>());
+      volunteer.setVolunteerId(i);
+      signedUp.add(volunteer);
+    }
+    event = new Event("Food Drive", "Benchmark", "2024-10-30", new TimeSlot("09:00", "17:00"),
+        "New York", new StorageCenter("Pantry", "Benchmark"),
+        new Organization("Org", "NP", new Client("benchmark-key")), signedUp);
+  }
+
+  /**
+   * Describes the event, listing its volunteers by name.
+   *
+   * @return the description
+   */
+  @Benchmark
+  public String eventToString() {
+    return event.toString();
+  }
+}
@@ -0,0 +1,57 @@
+package com.smartprogrammingbaddies.benchmarks;
+
+import com.smartprogrammingbaddies.item.Item;
+import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of finding the expired items of a storage center in memory, a tenth of
+ * which are expired.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExpiredItemsBenchmark {
+  @Param({"10000", "100000", "1000000"})
+  private int items;
+
+  private StorageCenter storageCenter;
+
+  /**
+   * Fills the storage center with items.
+   *
+   * @throws ParseException if an expiration date cannot be parsed
+   */
+  @Setup
+  public void setUp() throws ParseException {
+    storageCenter = new StorageCenter("Pantry", "Benchmark");
+    Set<Item> stock = new HashSet<>();
+    for (int i = 0; i < items; i++) {
+      String expirationDate = i % 10 == 0 ? "2020-01-01" : "2099-01-01";
+      stock.add(new Item(new ItemId("FOOD", "Item " + i), 1, storageCenter, expirationDate));
+    }
+    storageCenter.setItems(stock);
+  }
+
+  /**
+   * Finds the expired items.
+   *
+   * @return the expired items
+   */
+  @Benchmark
+  public Set<Item> getExpiredItems() {
+    return storageCenter.getExpiredItems();
+  }
+}
@@ -0,0 +1,71 @@
+package com.smartprogrammingbaddies.benchmarks;
+
+import com.smartprogrammingbaddies.item.Item;
+import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the quantity updates of an item and the construction of item IDs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemBenchmark {
+  @Param({"FOOD", "CLOTHING"})
+  private String type;
+
+  private Item item;
+
+  /**
+   * Creates the item whose quantity is updated.
+   *
+   * @throws ParseException if the expiration date cannot be parsed
+   */
+  @Setup
+  public void setUp() throws ParseException {
+    item = new Item(new ItemId(type, "Canned Beans"), 100,
+        new StorageCenter("Pantry", "Benchmark"), "2099-01-01");
+  }
+
+  /**
+   * Checks one unit in and back out, leaving the quantity unchanged.
+   *
+   * @return the quantity of the item
+   */
+  @Benchmark
+  public int incrementAndDecrementQuantity() {
+    item.incrementQuantity(1);
+    item.decrementQuantity(1);
+    return item.getQuantity();
+  }
+
+  /**
+   * Constructs an item ID from the type name, as every check-in and check-out does.
+   *
+   * @return the item ID
+   */
+  @Benchmark
+  public ItemId constructItemId() {
+    return new ItemId(1, type, "Canned Beans");
+  }
+
+  /**
+   * Looks up an item type by name.
+   *
+   * @return the item type
+   */
+  @Benchmark
+  public ItemId.ItemType itemTypeFromString() {
+    return ItemId.ItemType.fromString(type);
+  }
+}
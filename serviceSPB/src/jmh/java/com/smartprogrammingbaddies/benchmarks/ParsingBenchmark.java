@@ -0,0 +1,44 @@
+package com.smartprogrammingbaddies.benchmarks;
+
+import com.smartprogrammingbaddies.utils.DateParser;
+import com.smartprogrammingbaddies.utils.TimeSlot;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of parsing the times and dates passed to the endpoints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParsingBenchmark {
+  private String start = "09:00";
+  private String end = "17:30";
+  private String date = "2024-10-30";
+
+  /**
+   * Parses a time slot from its start and end times.
+   *
+   * @return the time slot
+   */
+  @Benchmark
+  public TimeSlot parseTimeSlot() {
+    return new TimeSlot(start, end);
+  }
+
+  /**
+   * Parses a yyyy-MM-dd date.
+   *
+   * @return the date
+   */
+  @Benchmark
+  public LocalDate parseDate() {
+    return DateParser.stringToNumericDate(date);
+  }
+}
@@ -1,17 +1,30 @@
 package com.smartprogrammingbaddies;
 
+import com.smartprogrammingbaddies.logger.TransactionLog;
 import io.github.cdimascio.dotenv.Dotenv;
 import io.github.cdimascio.dotenv.DotenvEntry;
-import javax.annotation.PreDestroy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
 * Class contains all the startup logic for the application.
 */
 @SpringBootApplication
+@EnableScheduling
 public class App implements CommandLineRunner {
+  private static final Logger logger = LoggerFactory.getLogger(App.class);
+  @Autowired(required = false)
+  TransactionLog transactionLog;
+  @Value("${spring.threads.virtual.enabled:false}")
+  boolean virtualThreads;
+
   /**
   * Main method to run the application. It loads the environment variables from the .env file.
   *
@@ -27,13 +40,29 @@ public class App implements CommandLineRunner {
     SpringApplication.run(App.class, args);
   }
 
+  /**
+  * Warns when virtual threads are requested on a JVM without them, where Spring keeps
+  * the platform thread pools. The App Engine runtime in app.yaml is java17, so there the
+  * switch has no effect until the runtime moves to java21.
+  *
+  * @param args A {@code String[]} of any potential runtime arguments
+  */
   @Override
   public void run(String... args) throws Exception {
-    // Startup logic
+    if (virtualThreads && Runtime.version().feature() < 21) {
+      logger.warn("Virtual threads need Java 21 or later, running on Java {} with platform "
+          + "threads instead", Runtime.version().feature());
+    }
   }
 
+  /**
+  * Writes the transactions still queued by the transaction log before the application stops.
+  */
   @PreDestroy
   public void onTermination() {
+    if (transactionLog != null) {
+      transactionLog.close();
+    }
     System.out.println("Terminated the application");
   }
 }
@@ -3,9 +3,16 @@ package com.smartprogrammingbaddies;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 /**
  * This class contains the Database Configuration class.
@@ -17,7 +24,7 @@ public class DatabaseConfig {
    *
    * @return A {@code DataSource} object representing the H2 in-memory database.
    */
-  @Bean
+  @Bean(name = "primaryDataSource")
   @Profile("test")
   public DataSource h2DataSource() {
     HikariConfig config = new HikariConfig();
@@ -26,4 +33,115 @@ public class DatabaseConfig {
     config.setPassword("password");
     return new HikariDataSource(config);
   }
+
+  /**
+   * Creates the connection pool of the production database from the spring.datasource
+   * properties, with the pool settings of {@link #configurePool}. Any of them can be
+   * overridden under spring.datasource.hikari. The pool's metrics are published by the
+   * actuator as hikaricp.connections.*, tagged with the pool name.
+   *
+   * @param properties the URL and credentials of the database
+   * @return A {@code HikariDataSource} object representing the production database.
+   */
+  @Bean
+  @Profile("!test")
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    configurePool(dataSource, "primary");
+    return dataSource;
+  }
+
+  /**
+   * Creates the connection pool of the read replica, with the same settings as the
+   * primary's. Only created when db.replica.url is set; the credentials default to the
+   * primary's.
+   *
+   * @param url the JDBC URL of the replica
+   * @param username the user to connect as
+   * @param password the user's password
+   * @return A {@code HikariDataSource} object representing the read replica.
+   */
+  @Bean
+  @ConditionalOnProperty("db.replica.url")
+  public HikariDataSource replicaDataSource(@Value("${db.replica.url}") String url,
+      @Value("${db.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${db.replica.password:${spring.datasource.password:}}") String password) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    configurePool(dataSource, "replica");
+    return dataSource;
+  }
+
+  /**
+   * Creates the monitor of the read replica's lag and availability.
+   *
+   * @param primary the primary database
+   * @param replica the read replica
+   * @param maxLagMillis the most the replica may be behind and still be read from
+   * @return A {@code ReplicaMonitor} object checking the replica.
+   */
+  @Bean
+  @ConditionalOnProperty("db.replica.url")
+  public ReplicaMonitor replicaMonitor(@Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${db.replica.max-lag-ms:5000}") long maxLagMillis) {
+    return new ReplicaMonitor(primary, replica, maxLagMillis);
+  }
+
+  /**
+   * Creates the data source used by JPA when a read replica is configured. Connections are
+   * only taken from a pool once a statement runs, by which time the transaction has marked
+   * them read-only or not: read-only transactions, which include the finders of every
+   * repository, go through {@link ReplicaDataSource} and everything else to the primary.
+   *
+   * @param primary the primary database
+   * @param replica the read replica
+   * @param monitor the monitor of the replica
+   * @return A {@code DataSource} object routing between the primary and the replica.
+   */
+  @Bean
+  @Primary
+  @ConditionalOnProperty("db.replica.url")
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica, ReplicaMonitor monitor) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+    dataSource.setReadOnlyDataSource(new ReplicaDataSource(replica, primary, monitor));
+    return dataSource;
+  }
+
+  /**
+   * Applies the pool sizing, timeouts, leak detection and MySQL statement caching used
+   * for every production pool. The pool holds at most 20 connections, keeps 5 idle, and
+   * fails a request that waits more than 10 seconds for one instead of queuing it behind
+   * the 30 second default. A connection held for more than 20 seconds is logged with the
+   * stack trace that took it. Prepared statements are cached on both the driver and the
+   * server, and JDBC batches are rewritten into multi-row inserts.
+   *
+   * @param config the pool to configure
+   * @param poolName the name the pool is logged and tagged with
+   */
+  static void configurePool(HikariConfig config, String poolName) {
+    config.setPoolName(poolName);
+    config.setMaximumPoolSize(20);
+    config.setMinimumIdle(5);
+    config.setConnectionTimeout(10_000);
+    config.setIdleTimeout(600_000);
+    config.setMaxLifetime(1_800_000);
+    config.setLeakDetectionThreshold(20_000);
+    config.addDataSourceProperty("cachePrepStmts", "true");
+    config.addDataSourceProperty("prepStmtCacheSize", "250");
+    config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+    config.addDataSourceProperty("useServerPrepStmts", "true");
+    config.addDataSourceProperty("rewriteBatchedStatements", "true");
+    config.addDataSourceProperty("useLocalSessionState", "true");
+    config.addDataSourceProperty("cacheResultSetMetadata", "true");
+    config.addDataSourceProperty("cacheServerConfiguration", "true");
+    config.addDataSourceProperty("elideSetAutoCommits", "true");
+    config.addDataSourceProperty("maintainTimeStats", "false");
+  }
 }
@@ -2,13 +2,16 @@ package com.smartprogrammingbaddies;
 
 import com.smartprogrammingbaddies.event.Event;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import com.smartprogrammingbaddies.utils.PooledIdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import java.io.Serializable;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 /**
  * The Donation class representes a donation, including their name, type, donator of this item,
@@ -17,7 +20,9 @@ import java.io.Serializable;
 @Entity
 public class Donations implements Serializable {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(generator = "donations_seq")
+  @GenericGenerator(name = "donations_seq", type = PooledIdGenerator.class,
+      parameters = @Parameter(name = "sequence_name", value = "Donations_SEQ"))
   @Column(name = "donation_id")
   private int id;
   private String donationName;
@@ -25,9 +30,9 @@ public class Donations implements Serializable {
   private String donator;
   private String lifeSpan;
   private String location;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private Event event;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private StorageCenter storage;
 
   /**
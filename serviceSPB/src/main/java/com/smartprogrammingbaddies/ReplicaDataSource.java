@@ -0,0 +1,62 @@
+package com.smartprogrammingbaddies;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Hands out the connections of read-only transactions: from the replica while serving a
+ * GET request and the replica is available, and from the primary otherwise. Read-only
+ * work of other requests, such as a lookup before an update, and of scheduled jobs stays
+ * on the primary, so nothing is written based on a stale read. A replica that fails to
+ * connect is marked unavailable and the primary is used instead.
+ */
+public class ReplicaDataSource extends DelegatingDataSource {
+  private final DataSource primary;
+  private final ReplicaMonitor monitor;
+
+  /**
+   * Constructs a ReplicaDataSource falling back from the replica to the primary.
+   *
+   * @param replica the database read from when possible
+   * @param primary the database read from otherwise
+   * @param monitor the monitor of the replica's availability
+   */
+  public ReplicaDataSource(DataSource replica, DataSource primary, ReplicaMonitor monitor) {
+    super(replica);
+    this.primary = primary;
+    this.monitor = monitor;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (isReadRequest() && monitor.isAvailable()) {
+      try {
+        return super.getConnection();
+      } catch (SQLException e) {
+        monitor.markFailed(e);
+      }
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (isReadRequest() && monitor.isAvailable()) {
+      try {
+        return super.getConnection(username, password);
+      } catch (SQLException e) {
+        monitor.markFailed(e);
+      }
+    }
+    return primary.getConnection(username, password);
+  }
+
+  private static boolean isReadRequest() {
+    return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request
+        && "GET".equals(request.getRequest().getMethod());
+  }
+}
@@ -0,0 +1,152 @@
+package com.smartprogrammingbaddies;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Tracks whether the read replica can serve reads. Every check interval the current time
+ * is written into a one-row heartbeat table on the primary and read back from the replica;
+ * the replica is available while that read succeeds and returns a heartbeat no older than
+ * the maximum lag. Until the first successful check, and from a failed connection to the
+ * next successful check, reads are sent to the primary.
+ */
+public class ReplicaMonitor {
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaMonitor.class);
+  static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS replica_heartbeat "
+      + "(id INT NOT NULL PRIMARY KEY, beat_millis BIGINT NOT NULL)";
+
+  private final DataSource primary;
+  private final DataSource replica;
+  private final long maxLagMillis;
+  private boolean tableCreated;
+  private volatile boolean available;
+  private volatile long lagMillis = -1;
+
+  /**
+   * Constructs a ReplicaMonitor of a replica of the given primary.
+   *
+   * @param primary the database the heartbeat is written to
+   * @param replica the database the heartbeat is read from
+   * @param maxLagMillis the oldest heartbeat the replica may return and still be read from
+   * @throws IllegalArgumentException if the maximum lag is negative
+   */
+  public ReplicaMonitor(DataSource primary, DataSource replica, long maxLagMillis) {
+    if (maxLagMillis < 0) {
+      throw new IllegalArgumentException("Max lag must not be negative.");
+    }
+    this.primary = primary;
+    this.replica = replica;
+    this.maxLagMillis = maxLagMillis;
+  }
+
+  /**
+   * Writes a heartbeat and checks the replica on the configured schedule, every second by
+   * default.
+   */
+  @Scheduled(fixedDelayString = "${db.replica.check-interval-ms:1000}")
+  public void check() {
+    check(System.currentTimeMillis());
+  }
+
+  /**
+   * Writes a heartbeat at the given time and checks how far behind the replica is.
+   *
+   * @param now the current time in milliseconds since the epoch
+   */
+  synchronized void check(long now) {
+    try {
+      beat(now);
+    } catch (SQLException e) {
+      logger.warn("Failed to write the replica heartbeat", e);
+    }
+    boolean wasAvailable = available;
+    try {
+      lagMillis = Math.max(0, now - readBeat());
+      available = lagMillis <= maxLagMillis;
+    } catch (SQLException e) {
+      lagMillis = -1;
+      available = false;
+    }
+    if (wasAvailable != available) {
+      if (available) {
+        logger.info("Read replica available, lag {} ms", lagMillis);
+      } else {
+        logger.warn("Read replica unavailable, lag {} ms", lagMillis);
+      }
+    }
+  }
+
+  /**
+   * Stops reads from the replica until the next successful check, after a connection to it
+   * failed.
+   *
+   * @param cause the failure
+   */
+  public void markFailed(SQLException cause) {
+    if (available) {
+      available = false;
+      logger.warn("Read replica unavailable", cause);
+    }
+  }
+
+  /**
+   * Gets whether reads may be sent to the replica.
+   *
+   * @return true if the last check succeeded within the maximum lag and no connection to
+   *     the replica has failed since
+   */
+  public boolean isAvailable() {
+    return available;
+  }
+
+  /**
+   * Gets how far behind the primary the replica was at the last check.
+   *
+   * @return the lag in milliseconds, or -1 if the replica could not be read
+   */
+  public long getLagMillis() {
+    return lagMillis;
+  }
+
+  private void beat(long now) throws SQLException {
+    try (Connection connection = primary.getConnection()) {
+      if (!tableCreated) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(CREATE_TABLE);
+        }
+        tableCreated = true;
+      }
+      try (PreparedStatement update = connection.prepareStatement(
+          "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1")) {
+        update.setLong(1, now);
+        if (update.executeUpdate() > 0) {
+          return;
+        }
+      }
+      try (PreparedStatement insert = connection.prepareStatement(
+          "INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)")) {
+        insert.setLong(1, now);
+        insert.executeUpdate();
+      }
+    }
+  }
+
+  private long readBeat() throws SQLException {
+    try (Connection connection = replica.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet beat = statement.executeQuery(
+            "SELECT beat_millis FROM replica_heartbeat WHERE id = 1")) {
+      if (!beat.next()) {
+        throw new SQLException("The replica has no heartbeat.");
+      }
+      return beat.getLong(1);
+    }
+  }
+}
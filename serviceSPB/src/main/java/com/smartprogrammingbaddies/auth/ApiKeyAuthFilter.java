@@ -0,0 +1,52 @@
+package com.smartprogrammingbaddies.auth;
+
+import com.smartprogrammingbaddies.client.ClientRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Attaches an {@link ApiKeyPrincipal} to every request that carries an
+ * {@code apiKey} parameter. Controllers read the principal through
+ * {@code @RequestAttribute} instead of verifying the key themselves, so a key
+ * is checked and its client resolved at most once per request.
+ */
+@Component
+public class ApiKeyAuthFilter extends OncePerRequestFilter {
+  private final ApiKeyCache apiKeyCache;
+  private final ApiKeyRepository apiKeyRepository;
+  private final ClientRepository clientRepository;
+
+  /**
+   * Constructs the filter with the repositories used to resolve API keys.
+   *
+   * @param apiKeyCache the cache of API key verification results
+   * @param apiKeyRepository the repository of issued API keys
+   * @param clientRepository the repository of registered clients
+   */
+  public ApiKeyAuthFilter(ApiKeyCache apiKeyCache, ApiKeyRepository apiKeyRepository,
+      ClientRepository clientRepository) {
+    this.apiKeyCache = apiKeyCache;
+    this.apiKeyRepository = apiKeyRepository;
+    this.clientRepository = clientRepository;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getParameter("apiKey") == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    ApiKeyPrincipal principal = new ApiKeyPrincipal(request.getParameter("apiKey"),
+        key -> apiKeyCache.isValid(key, apiKeyRepository::existsByApiKey),
+        clientRepository::findByApiKey);
+    request.setAttribute(ApiKeyPrincipal.ATTRIBUTE, principal);
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,193 @@
+package com.smartprogrammingbaddies.auth;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-evicting cache of API key verification results. Both valid and
+ * unknown keys are cached so repeated requests with the same key, good or bad,
+ * do not reach the database until the entry expires or is invalidated. A lookup
+ * that loads a key only caches its result if the key was not invalidated while
+ * it loaded, so a revoked key is never cached again as valid from a stale read.
+ */
+@Component
+public class ApiKeyCache {
+  private final int maxSize;
+  private final long ttlNanos;
+  private final Map<String, Entry> entries;
+  private final Map<String, Object> loading = new HashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs an ApiKeyCache with the given capacity and time to live.
+   *
+   * @param maxSize the maximum number of keys held before the least recently used is evicted
+   * @param ttlMillis how long a cached result stays valid, in milliseconds
+   * @throws IllegalArgumentException if the size or time to live is not positive
+   */
+  public ApiKeyCache(@Value("${auth.cache.max-size:10000}") int maxSize,
+      @Value("${auth.cache.ttl-millis:300000}") long ttlMillis) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Cache size must be greater than 0.");
+    }
+    if (ttlMillis <= 0) {
+      throw new IllegalArgumentException("Cache time to live must be greater than 0.");
+    }
+    this.maxSize = maxSize;
+    this.ttlNanos = ttlMillis * 1_000_000L;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > ApiKeyCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached verification result for a key, or null if the key is
+   * not cached or its entry has expired.
+   *
+   * @param apiKey the API key to look up
+   * @return {@code Boolean.TRUE} or {@code Boolean.FALSE} on a hit, null on a miss
+   */
+  public Boolean get(String apiKey) {
+    if (apiKey == null) {
+      return null;
+    }
+    synchronized (entries) {
+      Entry entry = entries.get(apiKey);
+      if (entry == null) {
+        misses.increment();
+        return null;
+      }
+      if (System.nanoTime() - entry.createdAt >= ttlNanos) {
+        entries.remove(apiKey);
+        misses.increment();
+        return null;
+      }
+      hits.increment();
+      return entry.valid;
+    }
+  }
+
+  /**
+   * Caches the verification result for a key.
+   *
+   * @param apiKey the API key
+   * @param valid whether the key is known to be valid
+   */
+  public void put(String apiKey, boolean valid) {
+    if (apiKey == null) {
+      return;
+    }
+    synchronized (entries) {
+      entries.put(apiKey, new Entry(valid, System.nanoTime()));
+    }
+  }
+
+  /**
+   * Returns whether a key is valid, consulting the loader only on a cache miss.
+   * Exceptions thrown by the loader propagate and nothing is cached. The result
+   * is not cached if the key is invalidated, or loaded again, while it loads.
+   *
+   * @param apiKey the API key to verify
+   * @param loader the lookup used when the key is not cached
+   * @return true if the key is valid, false otherwise
+   */
+  public boolean isValid(String apiKey, Predicate<String> loader) {
+    Boolean cached = get(apiKey);
+    if (cached != null) {
+      return cached;
+    }
+    if (apiKey == null) {
+      return loader.test(null);
+    }
+    Object load = new Object();
+    synchronized (entries) {
+      loading.put(apiKey, load);
+    }
+    boolean valid = false;
+    boolean loaded = false;
+    try {
+      valid = loader.test(apiKey);
+      loaded = true;
+    } finally {
+      synchronized (entries) {
+        if (loading.remove(apiKey, load) && loaded) {
+          entries.put(apiKey, new Entry(valid, System.nanoTime()));
+        }
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Removes a key from the cache, forcing the next lookup to reach the database.
+   *
+   * @param apiKey the API key to invalidate
+   */
+  public void invalidate(String apiKey) {
+    if (apiKey == null) {
+      return;
+    }
+    synchronized (entries) {
+      entries.remove(apiKey);
+      loading.remove(apiKey);
+    }
+  }
+
+  /**
+   * Removes every key from the cache.
+   */
+  public void invalidateAll() {
+    synchronized (entries) {
+      entries.clear();
+      loading.clear();
+    }
+  }
+
+  /**
+   * Gets the number of keys currently cached, including expired entries not yet evicted.
+   *
+   * @return the number of cached keys
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Gets the number of lookups answered from the cache.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups that were not cached or had expired.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  private static final class Entry {
+    private final boolean valid;
+    private final long createdAt;
+
+    private Entry(boolean valid, long createdAt) {
+      this.valid = valid;
+      this.createdAt = createdAt;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.smartprogrammingbaddies.auth;
+
+import com.smartprogrammingbaddies.client.Client;
+import com.smartprogrammingbaddies.organization.Organization;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The API key presented by the current request, together with what it resolves to.
+ * Verification and the client lookup are performed at most once per request and
+ * only when a handler first asks for them, so handlers that never need the client
+ * never pay for the lookup.
+ */
+public final class ApiKeyPrincipal {
+  /**
+   * The request attribute the principal is stored under.
+   */
+  public static final String ATTRIBUTE = "apiKeyPrincipal";
+
+  private final String apiKey;
+  private final Predicate<String> verifier;
+  private final Function<String, Client> clientLoader;
+  private Boolean valid;
+  private Client client;
+  private boolean clientLoaded;
+
+  /**
+   * Constructs a principal for the given API key.
+   *
+   * @param apiKey the API key presented by the request
+   * @param verifier checks whether the key exists
+   * @param clientLoader finds the client registered with the key
+   */
+  public ApiKeyPrincipal(String apiKey, Predicate<String> verifier,
+      Function<String, Client> clientLoader) {
+    this.apiKey = apiKey;
+    this.verifier = verifier;
+    this.clientLoader = clientLoader;
+  }
+
+  /**
+   * Gets the API key presented by the request.
+   *
+   * @return the API key
+   */
+  public String getApiKey() {
+    return apiKey;
+  }
+
+  /**
+   * Returns whether the API key is valid.
+   *
+   * @return true if the API key exists, false otherwise
+   */
+  public boolean isValid() {
+    if (valid == null) {
+      valid = apiKey != null && !apiKey.isBlank() && verifier.test(apiKey);
+    }
+    return valid;
+  }
+
+  /**
+   * Gets the client registered with the API key.
+   *
+   * @return the client, or null if the key is invalid or not registered to a client
+   */
+  public Client getClient() {
+    if (!clientLoaded) {
+      client = isValid() ? clientLoader.apply(apiKey) : null;
+      clientLoaded = true;
+    }
+    return client;
+  }
+
+  /**
+   * Gets the organization of the client registered with the API key.
+   *
+   * @return the organization, or null if there is no client or it has no organization
+   */
+  public Organization getOrganization() {
+    Client resolved = getClient();
+    return resolved == null ? null : resolved.getOrganization();
+  }
+}
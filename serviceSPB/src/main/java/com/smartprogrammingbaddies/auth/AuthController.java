@@ -1,11 +1,13 @@
 package com.smartprogrammingbaddies.auth;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +20,9 @@ public class AuthController {
   @Autowired
   private ApiKeyRepository apiKeyRepository;
 
+  @Autowired
+  private ApiKeyCache apiKeyCache;
+
   /**
     * Generates a unique API key for a client.
     *
@@ -32,6 +37,7 @@ public class AuthController {
         apiKey = UUID.randomUUID().toString();
       }
       apiKeyRepository.save(new ApiKey(apiKey));
+      apiKeyCache.invalidate(apiKey);
       return ResponseEntity.ok(apiKey);
     } catch (Exception e) {
       String message = "Error generating API key: " + e.getMessage();
@@ -50,7 +56,7 @@ public class AuthController {
   @GetMapping("/verifyApiKey")
   public ResponseEntity<?> verifyApiKey(@RequestParam("apiKey") String apiKey) {
     try {
-      if (apiKeyRepository.existsByApiKey(apiKey)) {
+      if (apiKeyCache.isValid(apiKey, apiKeyRepository::existsByApiKey)) {
         return ResponseEntity.ok("API key is valid");
       }
 
@@ -62,6 +68,24 @@ public class AuthController {
     }
   }
 
+  /**
+    * Reports the API key cache's hit and miss counters.
+    *
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
+    * @return A {@code ResponseEntity} containing the cache size, hit count, and miss count
+  with a HTTP 200 status code, or a HTTP 403 status code if the API key is missing or invalid.
+    */
+  @GetMapping("/apiKeyCacheStats")
+  public ResponseEntity<?> apiKeyCacheStats(
+      @RequestAttribute(value = ApiKeyPrincipal.ATTRIBUTE, required = false)
+      ApiKeyPrincipal principal) {
+    if (principal == null || !principal.isValid()) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).body("API key is invalid");
+    }
+    return ResponseEntity.ok(Map.of("size", apiKeyCache.size(),
+        "hits", apiKeyCache.getHitCount(), "misses", apiKeyCache.getMissCount()));
+  }
+
   /**
    * Enrolls a client into the database.
    *
@@ -72,6 +96,7 @@ public class AuthController {
     try {
       if (!apiKeyRepository.existsByApiKey(apiKey)) {
         apiKeyRepository.save(new ApiKey(apiKey));
+        apiKeyCache.invalidate(apiKey);
         System.out.println("API key added successfully!");
       } else {
         System.out.println("API key already exists!");
@@ -92,7 +117,7 @@ public class AuthController {
    */
   public boolean verifyClient(String apiKey) {
     try {
-      boolean exists = apiKeyRepository.existsByApiKey(apiKey);
+      boolean exists = apiKeyCache.isValid(apiKey, apiKeyRepository::existsByApiKey);
       if (exists) {
         System.out.println("API key exists in the database.");
       } else {
@@ -117,6 +142,7 @@ public class AuthController {
       Optional<ApiKey> apiKeyEntry = apiKeyRepository.findByApiKey(apiKey);
       if (apiKeyEntry.isPresent()) {
         apiKeyRepository.delete(apiKeyEntry.get());
+        apiKeyCache.invalidate(apiKey);
         System.out.println("API key deleted successfully!");
         return true;
       } else {
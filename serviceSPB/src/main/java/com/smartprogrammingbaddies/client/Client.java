@@ -3,6 +3,7 @@ package com.smartprogrammingbaddies.client;
 import com.smartprogrammingbaddies.organization.Organization;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -19,7 +20,7 @@ public class Client {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private int id;
   private String apiKey;
-  @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+  @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
   @JoinColumn(name = "organization_id")
   private Organization organization;
 
@@ -1,6 +1,7 @@
 package com.smartprogrammingbaddies.client;
 
 import com.smartprogrammingbaddies.auth.ApiKey;
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
 import com.smartprogrammingbaddies.auth.ApiKeyRepository;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,9 @@ public class ClientController {
   @Autowired
   private ApiKeyRepository apiKeyRepository;
 
+  @Autowired
+  private ApiKeyCache apiKeyCache;
+
   /**
    * Generates a unique API key for a client.
    *
@@ -49,6 +53,7 @@ public class ClientController {
       apiKey = UUID.randomUUID().toString();
     }
     apiKeyRepository.save(new ApiKey(apiKey));
+    apiKeyCache.invalidate(apiKey);
     return apiKey;
   }
 }
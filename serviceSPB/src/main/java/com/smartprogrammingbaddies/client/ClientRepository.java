@@ -1,5 +1,6 @@
 package com.smartprogrammingbaddies.client;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -8,5 +9,12 @@ import org.springframework.data.repository.CrudRepository;
 public interface ClientRepository extends CrudRepository<Client, Integer> {
   boolean existsByApiKey(String apiKey);
 
+  /**
+   * Finds the client holding an API key, with their organization in the same query.
+   *
+   * @param apiKey the client's API key
+   * @return the client, or null if no client holds the key
+   */
+  @EntityGraph(attributePaths = "organization")
   Client findByApiKey(String apiKey);
 }
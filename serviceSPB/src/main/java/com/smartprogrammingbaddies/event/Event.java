@@ -3,12 +3,15 @@ package com.smartprogrammingbaddies.event;
 import com.smartprogrammingbaddies.Donations;
 import com.smartprogrammingbaddies.organization.Organization;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import com.smartprogrammingbaddies.utils.PooledIdGenerator;
 import com.smartprogrammingbaddies.utils.TimeSlot;
 import com.smartprogrammingbaddies.volunteer.Volunteer;
 import jakarta.persistence.*;
 
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 /**
 * The Event class represents an event which can be organized by a StorageCenter.
@@ -16,9 +19,12 @@ import java.util.Set;
 * and the list of volunteers.
 */
 @Entity
+@Table(indexes = @Index(name = "idx_event_date", columnList = "date"))
 public class Event {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(generator = "event_seq")
+  @GenericGenerator(name = "event_seq", type = PooledIdGenerator.class,
+      parameters = @Parameter(name = "sequence_name", value = "Event_SEQ"))
   @Column(name = "event_id")
   private int id;
   private String name;
@@ -28,9 +34,9 @@ public class Event {
   private TimeSlot time;
   private String location;
   private boolean isCancelled;
-  @OneToOne
+  @OneToOne(fetch = FetchType.LAZY)
   private StorageCenter storage;
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private Organization organizer;
   @ManyToMany(cascade = CascadeType.ALL)
   @JoinTable(
@@ -1,6 +1,6 @@
 package com.smartprogrammingbaddies.event;
 
-import com.smartprogrammingbaddies.auth.AuthController;
+import com.smartprogrammingbaddies.auth.ApiKeyPrincipal;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
 import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
 import com.smartprogrammingbaddies.utils.TimeSlot;
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -35,9 +36,6 @@ public class EventController {
   @Autowired
   VolunteerRepository volunteerRepository;
 
-  @Autowired
-  private AuthController auth;
-
   /**
    * Enrolls an event into the database.
    * This method creates a new event with the provided details, including the
@@ -47,8 +45,8 @@ public class EventController {
    * It validates the API key and checks the validity of the provided storage
    * center ID.
    *
-   * @param apiKey          A {@code String} representing the API key for
-   *                        authentication.
+   * @param principal       The {@code ApiKeyPrincipal} resolved from the request's
+   *                        API key for authentication.
    * @param name            A {@code String} representing the event's name.
    * @param description     A {@code String} representing the event's description.
    * @param date            A {@code String} representing the event's date in the
@@ -71,7 +69,8 @@ public class EventController {
    *         or an HTTP 500 response if an error occurs.
    */
   @PostMapping("/createEvent")
-  public ResponseEntity<?> createEvent(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> createEvent(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("name") String name,
       @RequestParam("description") String description,
       @RequestParam("date") String date,
@@ -81,7 +80,7 @@ public class EventController {
       @RequestParam("storageCenterId") int storageCenterId,
       @RequestParam("organizationId") int organizationId) {
     try {
-      if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+      if (!principal.isValid()) {
         return new ResponseEntity<>("Invalid API key", HttpStatus.UNAUTHORIZED);
       }
 
@@ -111,8 +110,8 @@ public class EventController {
   /**
    * Adds a volunteer to an event.
    *
-   * @param apiKey      A {@code String} representing the API key for
-   *                    authentication.
+   * @param principal   The {@code ApiKeyPrincipal} resolved from the request's
+   *                    API key for authentication.
    * @param eventId     A {@code int} representing the ID of the event.
    * @param volunteerId A {@code int} representing the ID of the volunteer to add.
    *
@@ -121,15 +120,16 @@ public class EventController {
    *         or an error message if the event or volunteer is not found.
    */
   @PostMapping("/addVolunteerToEvent")
-  public ResponseEntity<?> addVolunteerToEvent(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> addVolunteerToEvent(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("eventId") int eventId,
       @RequestParam("volunteerId") int volunteerId) {
     // Validate API key
-    if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+    if (!principal.isValid()) {
       return new ResponseEntity<>("Invalid API key", HttpStatus.UNAUTHORIZED);
     }
 
-    Event event = eventRepository.findById(eventId).orElse(null);
+    Event event = eventRepository.findDetailsById(eventId).orElse(null);
     if (event == null) {
       return new ResponseEntity<>("Event not found with ID: " + eventId, HttpStatus.NOT_FOUND);
     }
@@ -149,7 +149,8 @@ public class EventController {
   /**
    * Lists all events in the database.
    *
-   * @param apiKey A {@code String} representing the API key for authentication.
+   * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key
+   *                  for authentication.
    *
    * @return A {@code ResponseEntity} containing a list of all events
    *         if the API key is valid, along with an HTTP 200 response.
@@ -157,11 +158,12 @@ public class EventController {
    *         invalid.
    */
   @GetMapping("/listEvents")
-  public ResponseEntity<?> listEvents(@RequestParam("apiKey") String apiKey) {
-    if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+  public ResponseEntity<?> listEvents(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal) {
+    if (!principal.isValid()) {
       return new ResponseEntity<>("Invalid API key", HttpStatus.NOT_FOUND);
     }
-    return new ResponseEntity<>(eventRepository.findAll(), HttpStatus.OK);
+    return new ResponseEntity<>(eventRepository.findSummaries(), HttpStatus.OK);
   }
 
   /**
@@ -175,16 +177,17 @@ public class EventController {
    *         found.
    */
   @GetMapping("/retrieveEvent")
-  public ResponseEntity<?> retrieveEvent(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> retrieveEvent(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("eventId") String eventId) {
-    if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+    if (!principal.isValid()) {
       return new ResponseEntity<>("Invalid API key", HttpStatus.UNAUTHORIZED);
     }
-    Event event = eventRepository.findById(Integer.parseInt(eventId)).orElse(null);
+    Event event = eventRepository.findDetailsById(Integer.parseInt(eventId)).orElse(null);
     if (event == null) {
       return new ResponseEntity<>("Event not found with ID: " + eventId, HttpStatus.NOT_FOUND);
     }
-    return new ResponseEntity<>(event.toString(), HttpStatus.OK);
+    return new ResponseEntity<>(new EventDetails(event), HttpStatus.OK);
   }
 
   /**
@@ -198,10 +201,11 @@ public class EventController {
    *         found.
    */
   @DeleteMapping("/removeEvent")
-  public ResponseEntity<?> removeEvent(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> removeEvent(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("eventId") String eventId) {
     try {
-      if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+      if (!principal.isValid()) {
         return new ResponseEntity<>("Invalid API key", HttpStatus.UNAUTHORIZED);
       }
       if (!eventRepository.existsById(Integer.parseInt(eventId))) {
@@ -221,7 +225,8 @@ public class EventController {
   /**
    * Searches for all events on a particular date.
    *
-   * @param apiKey A {@code String} representing the API key for authentication.
+   * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key
+   *                  for authentication.
    * @param date   A {@code String} representing the date to search for events.
    *
    * @return A {@code ResponseEntity} containing a list of events on the specified
@@ -232,14 +237,15 @@ public class EventController {
    *         or if no events are found on the specified date.
    */
   @GetMapping("/searchEventsByDate")
-  public ResponseEntity<?> searchEventsByDate(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> searchEventsByDate(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("date") String date) {
     try {
       // Validate API key
-      if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+      if (!principal.isValid()) {
         return new ResponseEntity<>("Invalid API key", HttpStatus.NOT_FOUND);
       }
-      var events = eventRepository.findByDate(date);
+      var events = eventRepository.findSummariesByDate(date);
 
       if (events.isEmpty()) {
         return new ResponseEntity<>("No events found on the specified date: " + date,
@@ -254,7 +260,8 @@ public class EventController {
   /**
    * Searches for all events on a particular date.
    *
-   * @param apiKey   A {@code String} representing the API key for authentication.
+   * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key
+   *                  for authentication.
    * @param location A {@code String} representing the location to search for
    *                 events.
    *
@@ -266,16 +273,17 @@ public class EventController {
    *         or if no events are found on the specified date.
    */
   @GetMapping("/searchEventsByLocation")
-  public ResponseEntity<?> searchEventsByLocation(@RequestParam("apiKey") String apiKey,
+  public ResponseEntity<?> searchEventsByLocation(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
       @RequestParam("location") String location) {
     try {
       // Validate API key
-      if (auth.verifyApiKey(apiKey).getStatusCode() != HttpStatus.OK) {
+      if (!principal.isValid()) {
         return new ResponseEntity<>("Invalid API key", HttpStatus.NOT_FOUND);
       }
 
       // Fetch events by location
-      var events = eventRepository.findByLocationContainingIgnoreCase(location);
+      var events = eventRepository.findSummariesByLocation(location);
 
       if (events.isEmpty()) {
         return new ResponseEntity<>("No events found on the specified location: " + location,
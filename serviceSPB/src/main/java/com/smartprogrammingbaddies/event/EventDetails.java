@@ -0,0 +1,180 @@
+package com.smartprogrammingbaddies.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.smartprogrammingbaddies.volunteer.Volunteer;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An event's details as returned by /retrieveEvent, holding the names of its storage center,
+ * organizer and volunteers rather than the associated entities.
+ */
+public class EventDetails {
+  private final int id;
+  private final String name;
+  private final String description;
+  private final String date;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime startTime;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime endTime;
+  private final String location;
+  private final String storageCenter;
+  private final String organizer;
+  private final boolean cancelled;
+  private final List<VolunteerName> volunteers;
+
+  /**
+   * Constructs the details of an event, with its volunteers ordered by name.
+   *
+   * @param event the event
+   */
+  public EventDetails(Event event) {
+    this.id = event.getDatabaseId();
+    this.name = event.getName();
+    this.description = event.getDescription();
+    this.date = event.getDate();
+    this.startTime = event.getTime() == null ? null : event.getTime().getStartTime();
+    this.endTime = event.getTime() == null ? null : event.getTime().getEndTime();
+    this.location = event.getLocation();
+    this.storageCenter = event.getStorageCenter() == null
+        ? null : event.getStorageCenter().getName();
+    this.organizer = event.getOrganizer() == null ? null : event.getOrganizer().getOrgName();
+    this.cancelled = event.isCancelled();
+    this.volunteers = event.getListOfVolunteers().stream()
+        .sorted(Comparator.comparing(Volunteer::getName, String.CASE_INSENSITIVE_ORDER))
+        .map(VolunteerName::new)
+        .toList();
+  }
+
+  /**
+   * Gets the database ID of the event.
+   *
+   * @return the database ID of the event
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the event.
+   *
+   * @return the name of the event
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the description of the event.
+   *
+   * @return the description of the event
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Gets the date of the event.
+   *
+   * @return the date of the event in the yyyy-MM-dd format
+   */
+  public String getDate() {
+    return date;
+  }
+
+  /**
+   * Gets the start time of the event.
+   *
+   * @return the start time of the event
+   */
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Gets the end time of the event.
+   *
+   * @return the end time of the event
+   */
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  /**
+   * Gets the location of the event.
+   *
+   * @return the location of the event
+   */
+  public String getLocation() {
+    return location;
+  }
+
+  /**
+   * Gets the name of the event's storage center.
+   *
+   * @return the name of the storage center, or null if the event has none
+   */
+  public String getStorageCenter() {
+    return storageCenter;
+  }
+
+  /**
+   * Gets the name of the event's organizer.
+   *
+   * @return the name of the organizer, or null if the event has none
+   */
+  public String getOrganizer() {
+    return organizer;
+  }
+
+  /**
+   * Gets whether the event is cancelled.
+   *
+   * @return true if the event is cancelled, false otherwise
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Gets the volunteers signed up for the event.
+   *
+   * @return the volunteers, ordered by name
+   */
+  public List<VolunteerName> getVolunteers() {
+    return volunteers;
+  }
+
+  /**
+   * The ID and name of a volunteer signed up for the event.
+   */
+  public static class VolunteerName {
+    private final int id;
+    private final String name;
+
+    VolunteerName(Volunteer volunteer) {
+      this.id = volunteer.getVolunteerId();
+      this.name = volunteer.getName();
+    }
+
+    /**
+     * Gets the ID of the volunteer.
+     *
+     * @return the volunteer's ID
+     */
+    public int getId() {
+      return id;
+    }
+
+    /**
+     * Gets the name of the volunteer.
+     *
+     * @return the volunteer's name
+     */
+    public String getName() {
+      return name;
+    }
+  }
+}
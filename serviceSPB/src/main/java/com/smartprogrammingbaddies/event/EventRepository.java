@@ -1,14 +1,91 @@
 package com.smartprogrammingbaddies.event;
 
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * The EventRepository interface extends the CrudRepository interface
  * to provide CRUD operations for the Event class.
  */
 public interface EventRepository extends CrudRepository<Event, Integer> {
-  List<Event> findByDate(String date);
-  
-  List<Event> findByLocationContainingIgnoreCase(String location);
+  /**
+   * Selects events as summaries. The storage center, organizer and volunteers are joined
+   * and reduced to names and a count, so no event or associated entities are loaded.
+   */
+  String SELECT_SUMMARY = "SELECT new com.smartprogrammingbaddies.event.EventSummary("
+      + "e.id, e.name, e.date, e.time.startTime, e.time.endTime, e.location, s.name, "
+      + "o.orgName, COUNT(v)) "
+      + "FROM Event e LEFT JOIN e.storage s LEFT JOIN e.organizer o LEFT JOIN e.volunteers v ";
+
+  /**
+   * Groups and orders the summaries selected by {@link #SELECT_SUMMARY}.
+   */
+  String GROUP_SUMMARY = "GROUP BY e.id, e.name, e.date, e.time.startTime, e.time.endTime, "
+      + "e.location, s.name, o.orgName "
+      + "ORDER BY e.date, e.time.startTime, e.id";
+
+  /**
+   * Finds an event with its storage center, organizer and volunteers in one query.
+   *
+   * @param id the database ID of the event
+   * @return the event, or empty if it does not exist
+   */
+  @EntityGraph(attributePaths = {"storage", "organizer", "volunteers"})
+  Optional<Event> findDetailsById(int id);
+
+  /**
+   * Finds a summary of every event, ordered by date and start time.
+   *
+   * @return the summaries of all events
+   */
+  @Query(SELECT_SUMMARY + GROUP_SUMMARY)
+  List<EventSummary> findSummaries();
+
+  /**
+   * Finds a summary of every event on a date, ordered by start time.
+   *
+   * @param date the date in the yyyy-MM-dd format
+   * @return the summaries of the events on the date
+   */
+  @Query(SELECT_SUMMARY + "WHERE e.date = :date " + GROUP_SUMMARY)
+  List<EventSummary> findSummariesByDate(@Param("date") String date);
+
+  /**
+   * Finds a summary of every event whose location contains a string, ignoring case.
+   *
+   * @param location the string the location must contain
+   * @return the summaries of the matching events
+   */
+  @Query(SELECT_SUMMARY + "WHERE LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%')) "
+      + GROUP_SUMMARY)
+  List<EventSummary> findSummariesByLocation(@Param("location") String location);
+
+  /**
+   * Finds a summary of every event registered to an organization.
+   *
+   * @param organizationId the database ID of the organization
+   * @return the summaries of the organization's events
+   */
+  @Query(SELECT_SUMMARY + "WHERE o.id = :organizationId " + GROUP_SUMMARY)
+  List<EventSummary> findSummariesByOrganizer(@Param("organizationId") int organizationId);
+
+  /**
+   * Finds a page of the events that are not cancelled between two dates, ordered by date
+   * and start time.
+   *
+   * @param from the earliest event date to include, in the yyyy-MM-dd format
+   * @param to the latest event date to include, in the yyyy-MM-dd format
+   * @param page the page to find
+   * @return the events of the page
+   */
+  @Query(SELECT_SUMMARY + "WHERE e.date BETWEEN :from AND :to AND e.isCancelled = false "
+      + GROUP_SUMMARY)
+  Slice<EventSummary> findUpcoming(@Param("from") String from, @Param("to") String to,
+      Pageable page);
 }
@@ -0,0 +1,130 @@
+package com.smartprogrammingbaddies.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalTime;
+
+/**
+ * A compact view of an event for listings, holding the names of its storage center and
+ * organizer and the number of volunteers rather than the associated entities.
+ */
+public class EventSummary {
+  private final int id;
+  private final String name;
+  private final String date;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime startTime;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime endTime;
+  private final String location;
+  private final String storageCenter;
+  private final String organizer;
+  private final long volunteerCount;
+
+  /**
+   * Constructs an EventSummary from the selected columns of an event.
+   *
+   * @param id the database ID of the event
+   * @param name the name of the event
+   * @param date the date of the event in the yyyy-MM-dd format
+   * @param startTime the start time of the event
+   * @param endTime the end time of the event
+   * @param location the location of the event
+   * @param storageCenter the name of the event's storage center, or null if it has none
+   * @param organizer the name of the event's organizer, or null if it has none
+   * @param volunteerCount the number of volunteers signed up for the event
+   */
+  public EventSummary(int id, String name, String date, LocalTime startTime,
+      LocalTime endTime, String location, String storageCenter, String organizer,
+      long volunteerCount) {
+    this.id = id;
+    this.name = name;
+    this.date = date;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.location = location;
+    this.storageCenter = storageCenter;
+    this.organizer = organizer;
+    this.volunteerCount = volunteerCount;
+  }
+
+  /**
+   * Gets the database ID of the event.
+   *
+   * @return the database ID of the event
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the event.
+   *
+   * @return the name of the event
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the date of the event.
+   *
+   * @return the date of the event in the yyyy-MM-dd format
+   */
+  public String getDate() {
+    return date;
+  }
+
+  /**
+   * Gets the start time of the event.
+   *
+   * @return the start time of the event
+   */
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Gets the end time of the event.
+   *
+   * @return the end time of the event
+   */
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  /**
+   * Gets the location of the event.
+   *
+   * @return the location of the event
+   */
+  public String getLocation() {
+    return location;
+  }
+
+  /**
+   * Gets the name of the event's storage center.
+   *
+   * @return the name of the storage center, or null if the event has none
+   */
+  public String getStorageCenter() {
+    return storageCenter;
+  }
+
+  /**
+   * Gets the name of the event's organizer.
+   *
+   * @return the name of the organizer, or null if the event has none
+   */
+  public String getOrganizer() {
+    return organizer;
+  }
+
+  /**
+   * Gets the number of volunteers signed up for the event.
+   *
+   * @return the number of volunteers
+   */
+  public long getVolunteerCount() {
+    return volunteerCount;
+  }
+}
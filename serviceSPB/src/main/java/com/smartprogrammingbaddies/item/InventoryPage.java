@@ -0,0 +1,66 @@
+package com.smartprogrammingbaddies.item;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * One page of a storage center's inventory.
+ */
+public class InventoryPage {
+  private final List<ItemSummary> items;
+  private final int page;
+  private final int size;
+  private final boolean hasNext;
+
+  /**
+   * Constructs a page of inventory.
+   *
+   * @param items the items of the page
+   * @param page the zero-based page number
+   * @param size the page size that was requested
+   * @param hasNext whether there is a page after this one
+   */
+  public InventoryPage(List<ItemSummary> items, int page, int size, boolean hasNext) {
+    this.items = items;
+    this.page = page;
+    this.size = size;
+    this.hasNext = hasNext;
+  }
+
+  /**
+   * Gets the items of the page.
+   *
+   * @return the items, ordered by type and then name
+   */
+  public List<ItemSummary> getItems() {
+    return items;
+  }
+
+  /**
+   * Gets the zero-based page number.
+   *
+   * @return the page number
+   */
+  public int getPage() {
+    return page;
+  }
+
+  /**
+   * Gets the page size that was requested.
+   *
+   * @return the page size
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns whether there is a page after this one.
+   *
+   * @return true if more items follow
+   */
+  @JsonProperty("hasNext")
+  public boolean hasNext() {
+    return hasNext;
+  }
+}
@@ -0,0 +1,90 @@
+package com.smartprogrammingbaddies.item;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+
+/**
+ * The stock of one item type at one storage center, kept up to date by every check-in,
+ * check-out and removal of expired items so that a center's totals are read from one row
+ * per type instead of being summed over its items.
+ */
+@Entity
+@Table(name = "inventory_total")
+@IdClass(InventoryTotalId.class)
+public class InventoryTotal {
+  @Id
+  @Column(name = "storage_center_id")
+  private int storageCenterId;
+  @Id
+  private ItemId.ItemType type;
+  @Column(name = "total_quantity", nullable = false)
+  private long totalQuantity;
+  @Column(name = "sku_count", nullable = false)
+  private int skuCount;
+  @Column(name = "next_expiration")
+  private LocalDate nextExpiration;
+
+  /**
+   * Constructs the total of an item type at a storage center.
+   *
+   * @param id the storage center and item type
+   * @param totalQuantity the total quantity in stock
+   * @param skuCount the number of distinct items in stock
+   * @param nextExpiration the earliest expiration date among the items, or null
+   */
+  public InventoryTotal(InventoryTotalId id, long totalQuantity, int skuCount,
+      LocalDate nextExpiration) {
+    this.storageCenterId = id.getStorageCenterId();
+    this.type = id.getType();
+    this.totalQuantity = totalQuantity;
+    this.skuCount = skuCount;
+    this.nextExpiration = nextExpiration;
+  }
+
+  /**
+   * Empty constructor needed for JPA.
+   */
+  public InventoryTotal() {
+    // Empty constructor needed for JPA
+  }
+
+  /**
+   * Gets the item type.
+   *
+   * @return the item type
+   */
+  public String getType() {
+    return type.toString();
+  }
+
+  /**
+   * Gets the total quantity of the type in stock.
+   *
+   * @return the total quantity
+   */
+  public long getTotalQuantity() {
+    return totalQuantity;
+  }
+
+  /**
+   * Gets the number of distinct items of the type in stock.
+   *
+   * @return the number of items
+   */
+  public int getSkuCount() {
+    return skuCount;
+  }
+
+  /**
+   * Gets the earliest expiration date among the items of the type.
+   *
+   * @return the earliest expiration date, or null if none of the items expire
+   */
+  public LocalDate getNextExpiration() {
+    return nextExpiration;
+  }
+}
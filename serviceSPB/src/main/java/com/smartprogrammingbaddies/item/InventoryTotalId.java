@@ -0,0 +1,83 @@
+package com.smartprogrammingbaddies.item;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The InventoryTotalId class identifies the inventory total of one item type at one
+ * storage center.
+ */
+public class InventoryTotalId implements Serializable {
+  private int storageCenterId;
+  private ItemId.ItemType type;
+
+  /**
+  * Empty constructor needed for JPA.
+  */
+  public InventoryTotalId() {
+    // Empty constructor needed for JPA
+  }
+
+  /**
+   * Constructs an InventoryTotalId for an item type at a storage center.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param type the item type
+   */
+  public InventoryTotalId(int storageCenterId, ItemId.ItemType type) {
+    this.storageCenterId = storageCenterId;
+    this.type = type;
+  }
+
+  /**
+   * Constructs the InventoryTotalId an item counts towards.
+   *
+   * @param itemId the ID of the item, including its storage center
+   */
+  public InventoryTotalId(ItemId itemId) {
+    this(itemId.getStorageCenterId(), ItemId.ItemType.fromString(itemId.getType()));
+  }
+
+  /**
+   * Gets the database ID of the storage center.
+   *
+   * @return the storage center's database ID
+   */
+  public int getStorageCenterId() {
+    return storageCenterId;
+  }
+
+  /**
+   * Gets the item type.
+   *
+   * @return the item type
+   */
+  public ItemId.ItemType getType() {
+    return type;
+  }
+
+  /**
+  * Compares this InventoryTotalId object to another object.
+  *
+  * @param other the object to compare to
+  * @return true if the objects are equal, false otherwise
+  */
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    InventoryTotalId totalId = (InventoryTotalId) other;
+    return storageCenterId == totalId.storageCenterId && type == totalId.type;
+  }
+
+  /**
+  * Generates a hash code for the InventoryTotalId object.
+  *
+  * @return the int hash value of the InventoryTotalId object
+  */
+  @Override
+  public int hashCode() {
+    return Objects.hash(storageCenterId, type);
+  }
+}
@@ -0,0 +1,141 @@
+package com.smartprogrammingbaddies.item;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * The InventoryTotalRepository interface is used to read and maintain the inventory totals
+ * of the storage centers. Every change is a single statement that runs in the transaction
+ * of the inventory change it accounts for.
+ */
+public interface InventoryTotalRepository
+    extends CrudRepository<InventoryTotal, InventoryTotalId> {
+  /**
+   * Finds the totals of a storage center, one row per item type.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the totals, ordered by type
+   */
+  @Query("SELECT t FROM InventoryTotal t WHERE t.storageCenterId = :storageCenterId "
+      + "ORDER BY t.type")
+  List<InventoryTotal> findByStorageCenter(@Param("storageCenterId") int storageCenterId);
+
+  /**
+   * Adds stock to a total in a single statement.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param type the item type
+   * @param quantity the quantity added
+   * @param skus the number of items new to the center
+   * @param expiration the earliest expiration date of the new items, or null
+   * @return the number of rows updated, 0 if the total does not exist yet
+   */
+  @Modifying
+  @Query("UPDATE InventoryTotal t SET t.totalQuantity = t.totalQuantity + :quantity, "
+      + "t.skuCount = t.skuCount + :skus, "
+      + "t.nextExpiration = CASE WHEN t.nextExpiration IS NULL "
+      + "OR t.nextExpiration > :expiration THEN :expiration ELSE t.nextExpiration END "
+      + "WHERE t.storageCenterId = :storageCenterId AND t.type = :type")
+  int addStock(@Param("storageCenterId") int storageCenterId,
+      @Param("type") ItemId.ItemType type, @Param("quantity") long quantity,
+      @Param("skus") int skus, @Param("expiration") LocalDate expiration);
+
+  /**
+   * Takes stock from a total in a single statement.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param type the item type
+   * @param quantity the quantity taken
+   * @param skus the number of items the center no longer stocks
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE InventoryTotal t SET t.totalQuantity = t.totalQuantity - :quantity, "
+      + "t.skuCount = t.skuCount - :skus "
+      + "WHERE t.storageCenterId = :storageCenterId AND t.type = :type")
+  int takeStock(@Param("storageCenterId") int storageCenterId,
+      @Param("type") ItemId.ItemType type, @Param("quantity") long quantity,
+      @Param("skus") int skus);
+
+  /**
+   * Sets the next expiration date of a total from the items still in stock, after items
+   * of the type were removed.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param type the item type
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE InventoryTotal t SET t.nextExpiration = (SELECT MIN(i.expirationDate) "
+      + "FROM Item i WHERE i.itemType.storageCenterId = t.storageCenterId "
+      + "AND i.itemType.type = t.type) "
+      + "WHERE t.storageCenterId = :storageCenterId AND t.type = :type")
+  int refreshNextExpiration(@Param("storageCenterId") int storageCenterId,
+      @Param("type") ItemId.ItemType type);
+
+  /**
+   * Takes the items of a storage center that expire before a date out of its totals. Must
+   * run before the items are deleted; only the expired items are read, through the index
+   * on the storage center and expiration date.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param date the date the items must expire before
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE InventoryTotal t SET "
+      + "t.totalQuantity = t.totalQuantity - (SELECT COALESCE(SUM(i.quantity), 0) FROM Item i "
+      + "WHERE i.itemType.storageCenterId = t.storageCenterId AND i.itemType.type = t.type "
+      + "AND i.expirationDate < :date), "
+      + "t.skuCount = t.skuCount - (SELECT COUNT(i.itemType.name) FROM Item i "
+      + "WHERE i.itemType.storageCenterId = t.storageCenterId AND i.itemType.type = t.type "
+      + "AND i.expirationDate < :date) "
+      + "WHERE t.storageCenterId = :storageCenterId AND t.nextExpiration < :date")
+  int takeExpired(@Param("storageCenterId") int storageCenterId, @Param("date") LocalDate date);
+
+  /**
+   * Sets the next expiration date of every total of a storage center whose next expiration
+   * is before a date, after the items expiring before it were deleted.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param date the date the deleted items expired before
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE InventoryTotal t SET t.nextExpiration = (SELECT MIN(i.expirationDate) "
+      + "FROM Item i WHERE i.itemType.storageCenterId = t.storageCenterId "
+      + "AND i.itemType.type = t.type) "
+      + "WHERE t.storageCenterId = :storageCenterId AND t.nextExpiration < :date")
+  int refreshExpired(@Param("storageCenterId") int storageCenterId,
+      @Param("date") LocalDate date);
+
+  /**
+   * Deletes the totals of a storage center.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM InventoryTotal t WHERE t.storageCenterId = :storageCenterId")
+  int deleteByStorageCenter(@Param("storageCenterId") int storageCenterId);
+
+  /**
+   * Recomputes the totals of a storage center from its items with one INSERT ... SELECT.
+   * The center's totals must have been deleted first.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the number of rows inserted
+   */
+  @Modifying
+  @Query("INSERT INTO InventoryTotal (storageCenterId, type, totalQuantity, skuCount, "
+      + "nextExpiration) "
+      + "SELECT i.itemType.storageCenterId, i.itemType.type, SUM(i.quantity), "
+      + "COUNT(i.itemType.name), MIN(i.expirationDate) FROM Item i "
+      + "WHERE i.itemType.storageCenterId = :storageCenterId "
+      + "GROUP BY i.itemType.storageCenterId, i.itemType.type")
+  int insertFromItems(@Param("storageCenterId") int storageCenterId);
+}
@@ -5,22 +5,30 @@ import com.smartprogrammingbaddies.utils.DateParser;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
 import java.text.ParseException;
 import java.time.LocalDate;
+import java.util.Objects;
 import org.springframework.format.annotation.DateTimeFormat;
 
 /**
  * Represents an item that can be donated. This item can be a food item, toiletries, clothes, etc.
  */
 @Entity
+@Table(indexes = @Index(name = "idx_item_center_expiration",
+    columnList = "storage_center_id, expiration_date"))
 public class Item {
   @EmbeddedId
   private ItemId itemType;
   @Column(nullable = false)
   private int quantity;
-  @ManyToOne
+  @MapsId("storageCenterId")
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "storage_center_id", nullable = false)
   private StorageCenter storageCenter;
   @DateTimeFormat(pattern = "yyyy-MM-dd")
@@ -85,7 +93,7 @@ public class Item {
    * @return the storage center id where the item is stored
    */
   public int getStorageCenter() {
-    return storageCenter.getDatabaseId();
+    return itemType.getStorageCenterId();
   }
 
   /**
@@ -150,7 +158,17 @@ public class Item {
    * @return true if the item is expired, false otherwise
    */
   public boolean isExpired() {
-    return expirationDate != null && expirationDate.isBefore(LocalDate.now());
+    return isExpired(LocalDate.now());
+  }
+
+  /**
+   * Check if item is expired as of the given date.
+   *
+   * @param today the date to check the expiration date against
+   * @return true if the item expired before the given date, false otherwise
+   */
+  public boolean isExpired(LocalDate today) {
+    return expirationDate != null && expirationDate.isBefore(today);
   }
 
   /**
@@ -189,7 +207,7 @@ public class Item {
     Item item = (Item) otherItem;
     return itemType.equals(item.itemType)
         && storageCenter.equals(item.storageCenter)
-        && expirationDate.equals(item.expirationDate);
+        && Objects.equals(expirationDate, item.expirationDate);
   }
 
   /**
@@ -199,7 +217,7 @@ public class Item {
    */
   @Override
   public int hashCode() {
-    return itemType.hashCode() + storageCenter.hashCode() + expirationDate.hashCode();
+    return itemType.hashCode() + storageCenter.hashCode() + Objects.hashCode(expirationDate);
   }
 
   /**
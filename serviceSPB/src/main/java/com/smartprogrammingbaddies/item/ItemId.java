@@ -1,13 +1,19 @@
 package com.smartprogrammingbaddies.item;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
- * The ItemId class represents the unique identifier for an item.
+ * The ItemId class represents the unique identifier for an item. An item is
+ * identified by the storage center that holds it together with its type and name,
+ * so the same item stored at two centers is kept as two separate rows.
  */
 @Embeddable
-public class ItemId {
+public class ItemId implements Serializable {
+  @Column(name = "storage_center_id")
+  private int storageCenterId;
   private ItemType type;
   private String name;
 
@@ -86,6 +92,27 @@ public class ItemId {
     this.name = name;
   }
 
+  /**
+   * Constructs an ItemId for an item held by the specified storage center.
+   *
+   * @param storageCenterId the database ID of the storage center holding the item
+   * @param type the type of the item
+   * @param name the name of the item
+   */
+  public ItemId(int storageCenterId, String type, String name) {
+    this(type, name);
+    this.storageCenterId = storageCenterId;
+  }
+
+  /**
+   * Gets the database ID of the storage center holding the item.
+   *
+   * @return the storage center's database ID
+   */
+  public int getStorageCenterId() {
+    return storageCenterId;
+  }
+
   /**
    * Gets the type of the item.
    *
@@ -154,7 +181,9 @@ public class ItemId {
       return false;
     }
     ItemId itemId = (ItemId) otherItem;
-    return type == itemId.type && name.equals(itemId.name);
+    return storageCenterId == itemId.storageCenterId
+        && type == itemId.type
+        && name.equals(itemId.name);
   }
 
   /**
@@ -164,6 +193,6 @@ public class ItemId {
   */
   @Override
   public int hashCode() {
-    return Objects.hash(type, name);
+    return Objects.hash(storageCenterId, type, name);
   }
 }
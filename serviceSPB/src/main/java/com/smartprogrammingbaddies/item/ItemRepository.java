@@ -1,9 +1,115 @@
 package com.smartprogrammingbaddies.item;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * The ItemRepository interface is used to store and manage items that can be donated.
  */
 public interface ItemRepository extends CrudRepository<Item, ItemId> {
+  /**
+   * Adds to the quantity of an item in a single statement.
+   *
+   * @param itemId the ID of the item, including its storage center
+   * @param quantity the quantity to add
+   * @return the number of rows updated, 0 if the item does not exist
+   */
+  @Modifying
+  @Query("UPDATE Item i SET i.quantity = i.quantity + :quantity WHERE i.itemType = :itemId")
+  int incrementQuantity(@Param("itemId") ItemId itemId, @Param("quantity") int quantity);
+
+  /**
+   * Subtracts from the quantity of an item in a single statement, only if enough is in stock.
+   *
+   * @param itemId the ID of the item, including its storage center
+   * @param quantity the quantity to subtract
+   * @return the number of rows updated, 0 if the item does not exist or has too few in stock
+   */
+  @Modifying
+  @Query("UPDATE Item i SET i.quantity = i.quantity - :quantity "
+      + "WHERE i.itemType = :itemId AND i.quantity >= :quantity")
+  int decrementQuantity(@Param("itemId") ItemId itemId, @Param("quantity") int quantity);
+
+  /**
+   * Deletes an item if none of it is left in stock.
+   *
+   * @param itemId the ID of the item, including its storage center
+   * @return the number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM Item i WHERE i.itemType = :itemId AND i.quantity = 0")
+  int deleteIfEmpty(@Param("itemId") ItemId itemId);
+
+  /**
+   * Finds and locks the items with the given names held by a storage center, so a batch
+   * can read and change their quantities without another request changing them in between.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param names the names of the items
+   * @return the items found, of any type
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT i FROM Item i "
+      + "WHERE i.itemType.storageCenterId = :storageCenterId AND i.itemType.name IN :names")
+  List<Item> lockByStorageCenterAndNames(@Param("storageCenterId") int storageCenterId,
+      @Param("names") Collection<String> names);
+
+  /**
+   * Finds a page of a storage center's inventory, ordered by type and then name. Only the
+   * listed columns are selected, so no item or storage center entities are loaded.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param type the type to filter by, or null for every type
+   * @param namePattern a LIKE pattern the name must match, with backslash as the escape
+   * @param page the page to find
+   * @return the items of the page
+   */
+  @Query("SELECT new com.smartprogrammingbaddies.item.ItemSummary("
+      + "i.itemType.type, i.itemType.name, i.quantity, i.expirationDate) FROM Item i "
+      + "WHERE i.itemType.storageCenterId = :storageCenterId "
+      + "AND (:type IS NULL OR i.itemType.type = :type) "
+      + "AND i.itemType.name LIKE :namePattern ESCAPE '\\' "
+      + "ORDER BY i.itemType.type, i.itemType.name")
+  Slice<ItemSummary> findInventory(@Param("storageCenterId") int storageCenterId,
+      @Param("type") ItemId.ItemType type, @Param("namePattern") String namePattern,
+      Pageable page);
+
+  /**
+   * Finds the items of a storage center that expire before a date, ordered by expiration
+   * date, using the index on the storage center and expiration date. Only the listed
+   * columns are selected, so no item or storage center entities are loaded.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param date the date the items must expire before
+   * @return the items expiring before the date
+   */
+  @Query("SELECT new com.smartprogrammingbaddies.item.ItemSummary("
+      + "i.itemType.type, i.itemType.name, i.quantity, i.expirationDate) FROM Item i "
+      + "WHERE i.itemType.storageCenterId = :storageCenterId AND i.expirationDate < :date "
+      + "ORDER BY i.expirationDate, i.itemType.type, i.itemType.name")
+  List<ItemSummary> findExpired(@Param("storageCenterId") int storageCenterId,
+      @Param("date") LocalDate date);
+
+  /**
+   * Deletes the items of a storage center that expire before a date in a single statement,
+   * without loading them.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param date the date the items must expire before
+   * @return the number of items deleted
+   */
+  @Modifying
+  @Query("DELETE FROM Item i WHERE i.itemType.storageCenterId = :storageCenterId "
+      + "AND i.expirationDate < :date")
+  int deleteExpired(@Param("storageCenterId") int storageCenterId,
+      @Param("date") LocalDate date);
 }
@@ -0,0 +1,62 @@
+package com.smartprogrammingbaddies.item;
+
+import com.smartprogrammingbaddies.utils.SchemaMigration;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Moves an Item table created before items were keyed by storage center to the primary key
+ * (storage_center_id, type, name) at startup. ddl-auto=update never changes an existing
+ * primary key, and under the old (type, name) key a second center checking in an item
+ * another center stocks fails on a duplicate key. The migration is the versioned MySQL
+ * script {@link #SCRIPT}.
+ */
+@Component
+public class ItemSchemaMigration extends SchemaMigration {
+  /** The classpath location of the MySQL migration script. */
+  public static final String SCRIPT = "db/migration/mysql/V2__item_key_by_storage_center.sql";
+  private static final String TABLE = "Item";
+  private static final String KEY_COLUMN = "storage_center_id";
+
+  /**
+   * Constructs an ItemSchemaMigration.
+   *
+   * @param entityManager the entity manager whose connection the script runs on
+   * @param transactionManager the manager of the transaction the script runs in
+   */
+  public ItemSchemaMigration(EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    super(entityManager, transactionManager, TABLE, SCRIPT, "item_schema_migration");
+  }
+
+  /**
+   * Checks whether the Item table exists with a primary key that leaves out the storage
+   * center. A missing table is created by Hibernate with the current key.
+   */
+  @Override
+  protected boolean isPending(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    for (String table : new String[] {TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+      boolean hasKey = false;
+      try (ResultSet keys = metaData.getPrimaryKeys(connection.getCatalog(),
+          connection.getSchema(), table)) {
+        while (keys.next()) {
+          hasKey = true;
+          if (KEY_COLUMN.equalsIgnoreCase(keys.getString("COLUMN_NAME"))) {
+            return false;
+          }
+        }
+      }
+      if (hasKey) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
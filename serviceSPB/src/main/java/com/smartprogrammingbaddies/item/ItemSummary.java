@@ -0,0 +1,65 @@
+package com.smartprogrammingbaddies.item;
+
+import java.time.LocalDate;
+
+/**
+ * A read-only view of an item in a storage center's inventory, selected directly by query
+ * so that listing an inventory never loads the items' storage centers.
+ */
+public class ItemSummary {
+  private final ItemId.ItemType type;
+  private final String name;
+  private final int quantity;
+  private final LocalDate expirationDate;
+
+  /**
+   * Constructs an inventory view of an item.
+   *
+   * @param type the type of the item
+   * @param name the name of the item
+   * @param quantity the quantity in stock
+   * @param expirationDate the item's expiration date, or null
+   */
+  public ItemSummary(ItemId.ItemType type, String name, int quantity, LocalDate expirationDate) {
+    this.type = type;
+    this.name = name;
+    this.quantity = quantity;
+    this.expirationDate = expirationDate;
+  }
+
+  /**
+   * Gets the type of the item.
+   *
+   * @return the type of the item
+   */
+  public String getType() {
+    return type.toString();
+  }
+
+  /**
+   * Gets the name of the item.
+   *
+   * @return the name of the item
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the quantity in stock.
+   *
+   * @return the quantity in stock
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+  /**
+   * Gets the item's expiration date.
+   *
+   * @return the expiration date, or null if the item does not expire
+   */
+  public LocalDate getExpirationDate() {
+    return expirationDate;
+  }
+}
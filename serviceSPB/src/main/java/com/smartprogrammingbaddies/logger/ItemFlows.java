@@ -0,0 +1,67 @@
+package com.smartprogrammingbaddies.logger;
+
+/**
+ * The quantities of one item type that went in and out of a storage center in one period,
+ * by the action they were logged with.
+ */
+public class ItemFlows {
+  private long checkedIn;
+  private long checkedOut;
+  private long expiredRemoved;
+  private long removedFromInventory;
+
+  /**
+   * Adds the quantity of an action to the totals. Actions other than the four tracked
+   * ones are ignored.
+   *
+   * @param action the action the quantity was logged with
+   * @param quantity the quantity to add
+   */
+  void add(String action, long quantity) {
+    if (action.equals("Check In")) {
+      checkedIn += quantity;
+    } else if (action.equals("Check Out")) {
+      checkedOut += quantity;
+    } else if (action.equals("Remove Expired Item")) {
+      expiredRemoved += quantity;
+    } else if (action.equals("Removed from inventory")) {
+      removedFromInventory += quantity;
+    }
+  }
+
+  /**
+   * Gets the quantity checked in.
+   *
+   * @return the quantity checked in
+   */
+  public long getCheckedIn() {
+    return checkedIn;
+  }
+
+  /**
+   * Gets the quantity checked out while some of the item was left.
+   *
+   * @return the quantity checked out
+   */
+  public long getCheckedOut() {
+    return checkedOut;
+  }
+
+  /**
+   * Gets the quantity removed because it expired.
+   *
+   * @return the quantity removed as expired
+   */
+  public long getExpiredRemoved() {
+    return expiredRemoved;
+  }
+
+  /**
+   * Gets the quantity checked out by check-outs that emptied the item.
+   *
+   * @return the quantity removed from the inventory
+   */
+  public long getRemovedFromInventory() {
+    return removedFromInventory;
+  }
+}
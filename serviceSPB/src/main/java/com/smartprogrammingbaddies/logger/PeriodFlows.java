@@ -0,0 +1,63 @@
+package com.smartprogrammingbaddies.logger;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The in and out flows of a storage center over one day or week, by item type.
+ */
+public class PeriodFlows {
+  private final LocalDate start;
+  private final LocalDate end;
+  private final Map<String, ItemFlows> types = new TreeMap<>();
+
+  /**
+   * Constructs the empty flows of a period.
+   *
+   * @param start the first day of the period
+   * @param end the last day of the period
+   */
+  public PeriodFlows(LocalDate start, LocalDate end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Adds the quantity of an item type and action to the flows.
+   *
+   * @param itemType the item type
+   * @param action the action the quantity was logged with
+   * @param quantity the quantity to add
+   */
+  void add(String itemType, String action, long quantity) {
+    types.computeIfAbsent(itemType, type -> new ItemFlows()).add(action, quantity);
+  }
+
+  /**
+   * Gets the first day of the period.
+   *
+   * @return the first day
+   */
+  public LocalDate getStart() {
+    return start;
+  }
+
+  /**
+   * Gets the last day of the period.
+   *
+   * @return the last day
+   */
+  public LocalDate getEnd() {
+    return end;
+  }
+
+  /**
+   * Gets the flows of each item type with any transactions in the period.
+   *
+   * @return the flows by item type, in type order
+   */
+  public Map<String, ItemFlows> getTypes() {
+    return types;
+  }
+}
@@ -1,33 +1,41 @@
 package com.smartprogrammingbaddies.logger;
 
 import com.smartprogrammingbaddies.item.Item;
+import com.smartprogrammingbaddies.item.ItemId;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import com.smartprogrammingbaddies.utils.PooledIdGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 /**
  * The TransactionLogger class is used to log transactions that occur in the StorageCenter class.
+ * The log is append-only and refers to its storage center by ID without a foreign key, so
+ * rows can be moved into the monthly tables of {@link TransactionPartitions} and outlive
+ * the center they were logged for.
  */
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_transaction_center_id", columnList = "storage_center_id, transaction_id"),
+    @Index(name = "idx_transaction_center_time",
+        columnList = "storage_center_id, timestamp, itemType, action, quantity")})
 public class Transaction {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(generator = "transaction_seq")
+  @GenericGenerator(name = "transaction_seq", type = PooledIdGenerator.class,
+      parameters = @Parameter(name = "sequence_name", value = "Transaction_SEQ"))
   @Column(name = "transaction_id")
   private int id;
   @Column(nullable = false)
-  private LocalTime timestamp;
-  @Column(nullable = false)
-  private LocalDate date;
-  @ManyToOne
-  @JoinColumn(name = "storage_center_id", nullable = false)
-  private StorageCenter storageCenter;
+  private Instant timestamp;
+  @Column(name = "storage_center_id", nullable = false)
+  private int storageCenterId;
   @Column(nullable = false)
   private String itemName;
   @Column(nullable = false)
@@ -48,26 +56,39 @@ public class Transaction {
    *        the item is null, or the action is null or empty
    */
   public Transaction(StorageCenter storageCenter, Item item, int quantity, String action) {
+    this(storageCenter, item == null ? null : item.getItemId(), quantity, action);
+  }
+
+  /**
+   * Transaction instantiated from the ID of an item, for updates that never load the item.
+   *
+   * @param storageCenter the storage center where the transaction occurred
+   * @param itemId the ID of the item involved in the transaction
+   * @param quantity the quantity of the item involved in the transaction
+   * @param action the action that occurred in the transaction
+   * @throws IllegalArgumentException if the storage center is null,
+   *        the item ID is null, or the action is null or empty
+   */
+  public Transaction(StorageCenter storageCenter, ItemId itemId, int quantity, String action) {
     if (storageCenter == null) {
       throw new IllegalArgumentException("Storage center must not be null.");
     }
     if (quantity < 0) {
       throw new IllegalArgumentException("Quantity must be greater than or equal to 0.");
     }
-    if (item == null) {
+    if (itemId == null) {
       throw new IllegalArgumentException("Item must not be null.");
     }
     if (action == null || action.isBlank()) {
       throw new IllegalArgumentException("Action must not be null or empty.");
     }
 
-    this.storageCenter = storageCenter;
-    this.itemName = item.getName();
-    this.itemType = item.getType();
+    this.storageCenterId = storageCenter.getDatabaseId();
+    this.itemName = itemId.getName();
+    this.itemType = itemId.getType();
     this.quantity = quantity;
     this.action = action;
-    this.timestamp = LocalTime.now();
-    this.date = LocalDate.now();
+    this.timestamp = Instant.now();
   }
 
   /**
@@ -87,30 +108,21 @@ public class Transaction {
   }
 
   /**
-   * Gets the timestamp of the transaction.
+   * Gets the time the transaction occurred.
    *
-   * @return the timestamp of the transaction
+   * @return the instant the transaction occurred
    */
-  public LocalTime getTimestamp() {
+  public Instant getTimestamp() {
     return timestamp;
   }
 
-  /**
-   * Gets the date of the transaction.
-   *
-   * @return the date of the transaction
-   */
-  public LocalDate getDate() {
-    return date;
-  }
-
   /**
    * Gets the storage center of the transaction.
    *
    * @return the storage center of the transaction
    */
   public int getStorageCenter() {
-    return storageCenter.getDatabaseId();
+    return storageCenterId;
   }
 
   /**
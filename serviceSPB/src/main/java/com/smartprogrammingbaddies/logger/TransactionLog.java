@@ -0,0 +1,299 @@
+package com.smartprogrammingbaddies.logger;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records the transactions of inventory changes. By default each transaction is saved in
+ * the transaction of the change it logs. In write-behind mode the transactions are queued
+ * once that transaction commits, in a bounded ring, and a single writer thread saves them
+ * in batched inserts every flush interval or batch size, whichever comes first. The
+ * request no longer waits for the insert, at the cost of losing queued rows if the
+ * process dies without shutting down.
+ *
+ * <p>When the ring is full the caller waits for space for up to the offer timeout and then
+ * saves its transactions itself, so a slow database slows callers down instead of growing
+ * the queue or dropping rows. {@link #close()} writes whatever is still queued.
+ *
+ * <p>A batch that fails to save is retried a few times with a doubling backoff, then saved
+ * one transaction at a time, so a bad row or a longer outage only loses the rows that
+ * still cannot be saved. Those are logged and counted in {@link #getFailedWrites()}.
+ *
+ * <p>Readers that must not treat a period of the log as complete while some of its rows
+ * are still queued use {@link #getWrittenBefore()}. The writer checkpoints its place in the
+ * ring and moves the time forward once every transaction queued before the checkpoint is
+ * written, so it trails the clock by about one batch even under constant load.
+ */
+@Component
+public class TransactionLog {
+  /** How often the writer checks for a closed log or a due batch while the ring is empty. */
+  private static final long WAKE_MILLIS = 10;
+  /** How many times a batch is saved before it is saved one transaction at a time. */
+  private static final int WRITE_ATTEMPTS = 3;
+  /** How long to wait before the first retry of a batch, doubled for each later retry. */
+  private static final long RETRY_BACKOFF_MILLIS = 100;
+  private static final Logger logger = LoggerFactory.getLogger(TransactionLog.class);
+
+  private final TransactionRepository transactionRepository;
+  private final TransactionTemplate writeTransaction;
+  private final boolean writeBehind;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final long offerTimeoutMillis;
+  private final BlockingQueue<Transaction> queue;
+  private final Thread writer;
+  private final LongAdder failedWrites = new LongAdder();
+  private volatile Instant writtenBefore = Instant.now();
+  private volatile boolean closed;
+  private volatile boolean drained;
+
+  /**
+   * Constructs a TransactionLog, starting its writer thread in write-behind mode.
+   *
+   * @param transactionRepository the repository the transactions are saved to
+   * @param transactionManager the manager of the transactions the batches are saved in
+   * @param writeBehind whether to queue the transactions instead of saving them directly
+   * @param capacity the number of transactions the ring holds
+   * @param batchSize the most transactions saved in one batch
+   * @param flushIntervalMillis the longest a queued transaction waits for a batch to fill
+   * @param offerTimeoutMillis the longest a caller waits for space in a full ring
+   * @throws IllegalArgumentException if the capacity, batch size or flush interval is not
+   *     positive, or the offer timeout is negative
+   */
+  public TransactionLog(TransactionRepository transactionRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${transaction.log.write-behind:false}") boolean writeBehind,
+      @Value("${transaction.log.capacity:10000}") int capacity,
+      @Value("${transaction.log.batch-size:500}") int batchSize,
+      @Value("${transaction.log.flush-interval-ms:100}") long flushIntervalMillis,
+      @Value("${transaction.log.offer-timeout-ms:50}") long offerTimeoutMillis) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be greater than 0.");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be greater than 0.");
+    }
+    if (flushIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Flush interval must be greater than 0.");
+    }
+    if (offerTimeoutMillis < 0) {
+      throw new IllegalArgumentException("Offer timeout must not be negative.");
+    }
+    this.transactionRepository = transactionRepository;
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+    this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.writeBehind = writeBehind;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    if (writeBehind) {
+      writer = new Thread(this::writeBatches, "transaction-log-writer");
+      writer.setDaemon(true);
+      writer.start();
+    } else {
+      writer = null;
+    }
+  }
+
+  /**
+   * Records a transaction.
+   *
+   * @param transaction the transaction to record
+   */
+  public void record(Transaction transaction) {
+    if (!writeBehind) {
+      transactionRepository.save(transaction);
+      return;
+    }
+    recordAll(List.of(transaction));
+  }
+
+  /**
+   * Records a list of transactions.
+   *
+   * @param transactions the transactions to record
+   */
+  public void recordAll(List<Transaction> transactions) {
+    if (!writeBehind) {
+      transactionRepository.saveAll(transactions);
+      return;
+    }
+    if (transactions.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          enqueue(transactions);
+        }
+      });
+    } else {
+      enqueue(transactions);
+    }
+  }
+
+  /**
+   * Gets the number of transactions waiting to be written.
+   *
+   * @return the number of queued transactions
+   */
+  public int getPending() {
+    return queue.size();
+  }
+
+  /**
+   * Gets a time before which every transaction queued has been written. Without
+   * write-behind, or once the log is closed and drained, transactions are written by their
+   * callers and it is the current time.
+   *
+   * @return the time before which the queued transactions are written
+   */
+  public Instant getWrittenBefore() {
+    if (!writeBehind || drained) {
+      return Instant.now();
+    }
+    return writtenBefore;
+  }
+
+  /**
+   * Gets the number of transactions that could not be written, even one at a time.
+   *
+   * @return the number of lost transactions
+   */
+  public long getFailedWrites() {
+    return failedWrites.sum();
+  }
+
+  /**
+   * Stops the writer thread once its current batch is written, then writes every
+   * transaction still queued. Transactions recorded afterwards are written by their
+   * callers. Calling it again does nothing.
+   */
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (writer != null) {
+      try {
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    List<Transaction> rest = new ArrayList<>();
+    while (queue.drainTo(rest, batchSize) > 0) {
+      write(rest);
+      rest = new ArrayList<>();
+    }
+    drained = true;
+  }
+
+  private void enqueue(List<Transaction> transactions) {
+    List<Transaction> unqueued = new ArrayList<>();
+    for (int i = 0; i < transactions.size(); i++) {
+      Transaction transaction = transactions.get(i);
+      try {
+        if (closed || !queue.offer(transaction, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+          unqueued.add(transaction);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        unqueued.addAll(transactions.subList(i, transactions.size()));
+        break;
+      }
+    }
+    if (!unqueued.isEmpty()) {
+      write(unqueued);
+    }
+  }
+
+  private void writeBatches() {
+    List<Transaction> batch = new ArrayList<>(batchSize);
+    long deadline = 0;
+    long taken = 0;
+    long written = 0;
+    Instant checkpoint = null;
+    long checkpointTaken = 0;
+    while (!closed) {
+      if (checkpoint == null) {
+        checkpoint = Instant.now();
+        checkpointTaken = taken + queue.size();
+      }
+      try {
+        Transaction next = queue.poll(WAKE_MILLIS, TimeUnit.MILLISECONDS);
+        if (next != null) {
+          if (batch.isEmpty()) {
+            deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+          }
+          batch.add(next);
+          taken += 1 + queue.drainTo(batch, batchSize - batch.size());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (!batch.isEmpty()
+          && (batch.size() >= batchSize || System.nanoTime() - deadline >= 0)) {
+        write(batch);
+        written += batch.size();
+        batch = new ArrayList<>(batchSize);
+      }
+      if (written >= checkpointTaken) {
+        writtenBefore = checkpoint;
+        checkpoint = null;
+      }
+    }
+    if (!batch.isEmpty()) {
+      write(batch);
+    }
+  }
+
+  private void write(List<Transaction> batch) {
+    long backoff = RETRY_BACKOFF_MILLIS;
+    for (int attempt = 1; attempt <= WRITE_ATTEMPTS; attempt++) {
+      try {
+        writeTransaction.executeWithoutResult(status -> transactionRepository.saveAll(batch));
+        return;
+      } catch (RuntimeException e) {
+        logger.warn("Failed to write {} transactions, attempt {} of {}", batch.size(), attempt,
+            WRITE_ATTEMPTS, e);
+      }
+      if (attempt < WRITE_ATTEMPTS) {
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        backoff *= 2;
+      }
+    }
+    for (Transaction transaction : batch) {
+      try {
+        writeTransaction.executeWithoutResult(status -> transactionRepository.save(transaction));
+      } catch (RuntimeException e) {
+        failedWrites.increment();
+        logger.error("Lost transaction {} of item {} in storage center {}",
+            transaction.getAction(), transaction.getItemName(), transaction.getStorageCenter(),
+            e);
+      }
+    }
+  }
+}
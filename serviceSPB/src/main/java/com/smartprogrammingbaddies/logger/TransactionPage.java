@@ -0,0 +1,44 @@
+package com.smartprogrammingbaddies.logger;
+
+import java.util.List;
+
+/**
+ * One page of a storage center's transaction log, with the cursor for the next page.
+ */
+public class TransactionPage {
+  private final List<Transaction> transactions;
+  private final Integer nextAfterId;
+
+  /**
+   * Constructs a page of transactions.
+   *
+   * @param transactions the transactions of the page, in ID order
+   * @param pageSize the page size that was requested
+   */
+  public TransactionPage(List<Transaction> transactions, int pageSize) {
+    this.transactions = transactions;
+    if (transactions.size() < pageSize || transactions.isEmpty()) {
+      this.nextAfterId = null;
+    } else {
+      this.nextAfterId = transactions.get(transactions.size() - 1).getDatabaseId();
+    }
+  }
+
+  /**
+   * Gets the transactions of the page.
+   *
+   * @return the transactions, in ID order
+   */
+  public List<Transaction> getTransactions() {
+    return transactions;
+  }
+
+  /**
+   * Gets the ID to pass as {@code afterId} to fetch the next page.
+   *
+   * @return the ID of the last transaction of the page, or null if this is the last page
+   */
+  public Integer getNextAfterId() {
+    return nextAfterId;
+  }
+}
@@ -0,0 +1,460 @@
+package com.smartprogrammingbaddies.logger;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the transaction log in monthly tables. New rows are written to the Transaction
+ * table; once a month is over its rows are moved, once, into an append-only table named
+ * after the month (transaction_yyyymm, in UTC), so the live table only holds the current
+ * month. Reads union the live table with the monthly tables their date range overlaps.
+ * Pages are read in read-only transactions so a read replica can serve them, while sums
+ * are read from the primary, since {@link TransactionStats} caches the sums of closed
+ * periods and a lagging replica could still miss their last rows. The retention job drops
+ * whole monthly tables instead of deleting rows. Only plain CREATE TABLE ... AS SELECT,
+ * INSERT ... SELECT and DROP TABLE are used, so the same code runs on MySQL and H2. A
+ * Transaction table created before the monthly tables is migrated to their schema by
+ * {@link TransactionSchemaMigration}.
+ *
+ * <p>Every instance of the app runs the scheduled jobs, so they tolerate each other: a
+ * table or index another instance created first is used as is, each chunk of a month's rows
+ * is locked before it is moved so a concurrent rollover waits and then moves only what is
+ * left, and a table another instance dropped first is skipped.
+ */
+@Component
+public class TransactionPartitions {
+  /** The time zone the months of the tables and the days of every date filter start in. */
+  public static final ZoneOffset ZONE = ZoneOffset.UTC;
+  private static final String LIVE_TABLE = "Transaction";
+  private static final String COLUMNS =
+      "transaction_id, timestamp, storage_center_id, itemName, itemType, quantity, action";
+  private static final String STATS_COLUMNS =
+      "storage_center_id, timestamp, itemType, action, quantity";
+  private static final Pattern MONTH_TABLE =
+      Pattern.compile("transaction_(\\d{4})(\\d{2})", Pattern.CASE_INSENSITIVE);
+  private static final long SEALED_MONTHS_MAX_AGE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readTransaction;
+  private final int retentionMonths;
+  private final int rolloverChunkSize;
+  private final List<Runnable> dropListeners = new CopyOnWriteArrayList<>();
+  private volatile NavigableSet<YearMonth> knownSealedMonths;
+  private volatile long knownSealedMonthsAt;
+
+  /**
+   * Constructs a TransactionPartitions keeping the given number of months.
+   *
+   * @param entityManager the entity manager the statements are run with
+   * @param transactionManager the manager of the transactions the statements run in
+   * @param retentionMonths the number of whole months kept before the current one
+   * @param rolloverChunkSize the most rows the rollover moves in one transaction
+   * @throws IllegalArgumentException if the retention or chunk size is not positive
+   */
+  public TransactionPartitions(EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      @Value("${transaction.retention.months:24}") int retentionMonths,
+      @Value("${transaction.rollover.chunk-size:1000}") int rolloverChunkSize) {
+    if (retentionMonths <= 0) {
+      throw new IllegalArgumentException("Retention must be at least 1 month.");
+    }
+    if (rolloverChunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be greater than 0.");
+    }
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.retentionMonths = retentionMonths;
+    this.rolloverChunkSize = rolloverChunkSize;
+  }
+
+  /**
+   * Gets the name of the table holding the transactions of a month.
+   *
+   * @param month the month
+   * @return the name of the month's table
+   */
+  public static String tableName(YearMonth month) {
+    return String.format("transaction_%04d%02d", month.getYear(), month.getMonthValue());
+  }
+
+  /**
+   * Gets the month whose transactions a table holds.
+   *
+   * @param tableName the name of a table
+   * @return the month of the table, or null if it is not a monthly transaction table
+   */
+  public static YearMonth monthOf(String tableName) {
+    Matcher matcher = MONTH_TABLE.matcher(tableName);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+  }
+
+  /**
+   * Finds the next page of a storage center's transactions after a given transaction ID,
+   * in ID order, across the live table and every monthly table in the time range. Each
+   * table is read through its index on the storage center and ID, at most one page each.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param from the earliest time to include, or null for no lower bound
+   * @param to the time to include transactions before, or null for no upper bound
+   * @param action the action to filter by, or null for every action
+   * @param afterId the ID of the last transaction already seen, or 0 to start at the beginning
+   * @param size the page size
+   * @return the transactions of the page
+   */
+  public List<Transaction> findPage(int storageCenterId, Instant from, Instant to,
+      String action, int afterId, int size) {
+    return readTransaction.execute(status ->
+        findPageInTransaction(storageCenterId, from, to, action, afterId, size));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Transaction> findPageInTransaction(int storageCenterId, Instant from,
+      Instant to, String action, int afterId, int size) {
+    StringBuilder where = new StringBuilder(" WHERE storage_center_id = :storageCenterId"
+        + " AND transaction_id > :afterId");
+    if (from != null) {
+      where.append(" AND timestamp >= :from");
+    }
+    if (to != null) {
+      where.append(" AND timestamp < :to");
+    }
+    if (action != null) {
+      where.append(" AND action = :action");
+    }
+    String branch = " ORDER BY transaction_id LIMIT " + size + ")";
+
+    StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM ((SELECT " + COLUMNS
+        + " FROM " + LIVE_TABLE + where + branch);
+    for (YearMonth month : knownSealedMonths()) {
+      if ((from == null || endOf(month).isAfter(from))
+          && (to == null || startOf(month).isBefore(to))) {
+        sql.append(" UNION ALL (SELECT ").append(COLUMNS).append(" FROM ")
+            .append(tableName(month)).append(where).append(branch);
+      }
+    }
+    sql.append(") log ORDER BY transaction_id LIMIT ").append(size);
+
+    Query query = entityManager.createNativeQuery(sql.toString(), Transaction.class)
+        .setParameter("storageCenterId", storageCenterId)
+        .setParameter("afterId", afterId);
+    if (from != null) {
+      query.setParameter("from", from);
+    }
+    if (to != null) {
+      query.setParameter("to", to);
+    }
+    if (action != null) {
+      query.setParameter("action", action);
+    }
+    return query.getResultList();
+  }
+
+  /**
+   * Sums a storage center's transaction quantities by period, item type and action across
+   * the live table and every monthly table in the time range. Each table is read through
+   * its index on the storage center, time, item type, action and quantity, which covers
+   * the query, and only the sums are returned. The sums are read from the primary, never
+   * from a read replica, so a period is only cached as closed with every row written by then.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param bounds the start of each period followed by the end of the last one, in order
+   * @return one row per period, item type and action with transactions: the index of the
+   *     period in the bounds, the item type, the action and the summed quantity
+   * @throws IllegalArgumentException if fewer than two bounds are given
+   */
+  public List<Object[]> sumByPeriod(int storageCenterId, List<Instant> bounds) {
+    if (bounds.size() < 2) {
+      throw new IllegalArgumentException("At least one period must be given.");
+    }
+    return transactionTemplate.execute(status ->
+        sumByPeriodInTransaction(storageCenterId, bounds));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> sumByPeriodInTransaction(int storageCenterId, List<Instant> bounds) {
+    Instant from = bounds.get(0);
+    Instant to = bounds.get(bounds.size() - 1);
+    String branch = "SELECT timestamp, itemType, action, quantity FROM %s"
+        + " WHERE storage_center_id = :storageCenterId"
+        + " AND timestamp >= :bound0 AND timestamp < :bound" + (bounds.size() - 1);
+
+    StringBuilder sql = new StringBuilder("SELECT period, itemType, action, SUM(quantity)"
+        + " FROM (SELECT CASE");
+    for (int i = 1; i < bounds.size() - 1; i++) {
+      sql.append(" WHEN timestamp < :bound").append(i).append(" THEN ").append(i - 1);
+    }
+    sql.append(" ELSE ").append(bounds.size() - 2)
+        .append(" END AS period, itemType, action, quantity FROM (")
+        .append(String.format(branch, LIVE_TABLE));
+    for (YearMonth month : knownSealedMonths()) {
+      if (endOf(month).isAfter(from) && startOf(month).isBefore(to)) {
+        sql.append(" UNION ALL ").append(String.format(branch, tableName(month)));
+      }
+    }
+    sql.append(") log) periods GROUP BY period, itemType, action");
+
+    Query query = entityManager.createNativeQuery(sql.toString())
+        .setParameter("storageCenterId", storageCenterId);
+    for (int i = 0; i < bounds.size(); i++) {
+      query.setParameter("bound" + i, bounds.get(i));
+    }
+    return query.getResultList();
+  }
+
+  /**
+   * Moves the rows of every month before the current one out of the live table on the
+   * configured schedule, just after midnight UTC on the first of each month by default.
+   */
+  @Scheduled(cron = "${transaction.rollover.cron:0 5 0 1 * *}", zone = "UTC")
+  public void scheduledRollover() {
+    rollover(YearMonth.now(ZONE));
+  }
+
+  /**
+   * Drops the monthly tables older than the retention on the configured schedule, after
+   * the rollover by default.
+   */
+  @Scheduled(cron = "${transaction.retention.cron:0 35 0 1 * *}", zone = "UTC")
+  public void scheduledRetention() {
+    dropExpired(YearMonth.now(ZONE));
+  }
+
+  /**
+   * Moves the rows of every month before the given one from the live table into the
+   * month's table, creating it on first use. Rows logged late for a month that was already
+   * moved are appended to its table. The rows are moved in chunks in ID order, and each
+   * chunk is locked, copied and deleted in its own transaction, so a month of any size
+   * holds a bounded number of locks at a time, and running it again after a failure, or on
+   * two instances at once, neither loses nor duplicates rows.
+   *
+   * @param current the month whose rows stay in the live table
+   * @return the number of rows moved
+   */
+  public int rollover(YearMonth current) {
+    TreeSet<YearMonth> sealed = sealedMonths();
+    int moved = 0;
+    Instant oldest;
+    while ((oldest = oldestBefore(startOf(current))) != null) {
+      YearMonth month = YearMonth.from(oldest.atOffset(ZONE));
+      String table = tableName(month);
+      if (sealed.add(month)) {
+        createTable(table);
+        refreshSealedMonths();
+      }
+      int chunk;
+      do {
+        chunk = moveChunk(month, table);
+        moved += chunk;
+      } while (chunk > 0);
+    }
+    refreshSealedMonths();
+    return moved;
+  }
+
+  /**
+   * Moves the first chunk of a month's rows in ID order from the live table into the
+   * month's table, in one transaction. Only the IDs of the chunk are read, to lock its rows
+   * and find the last one.
+   *
+   * @return the number of rows moved, 0 once none of the month's rows are left
+   */
+  private int moveChunk(YearMonth month, String table) {
+    return transactionTemplate.execute(status -> {
+      List<?> ids = entityManager.createNativeQuery("SELECT transaction_id FROM " + LIVE_TABLE
+          + " WHERE timestamp >= :start AND timestamp < :end"
+          + " ORDER BY transaction_id LIMIT " + rolloverChunkSize + " FOR UPDATE")
+          .setParameter("start", startOf(month))
+          .setParameter("end", endOf(month))
+          .getResultList();
+      if (ids.isEmpty()) {
+        return 0;
+      }
+      String chunk = " WHERE timestamp >= :start AND timestamp < :end"
+          + " AND transaction_id <= :lastId";
+      int lastId = ((Number) ids.get(ids.size() - 1)).intValue();
+      entityManager.createNativeQuery("INSERT INTO " + table + " (" + COLUMNS + ") SELECT "
+          + COLUMNS + " FROM " + LIVE_TABLE + chunk)
+          .setParameter("start", startOf(month))
+          .setParameter("end", endOf(month))
+          .setParameter("lastId", lastId)
+          .executeUpdate();
+      return entityManager.createNativeQuery("DELETE FROM " + LIVE_TABLE + chunk)
+          .setParameter("start", startOf(month))
+          .setParameter("end", endOf(month))
+          .setParameter("lastId", lastId)
+          .executeUpdate();
+    });
+  }
+
+  private Instant oldestBefore(Instant time) {
+    return transactionTemplate.execute(status -> (Instant) entityManager
+        .createNativeQuery("SELECT MIN(timestamp) FROM " + LIVE_TABLE
+            + " WHERE timestamp < :time", Instant.class)
+        .setParameter("time", time)
+        .getSingleResult());
+  }
+
+  /**
+   * Adds a listener run after every retention run, for caches of sums over the log. It is
+   * run even when nothing was dropped, since another instance may have dropped the tables
+   * first.
+   *
+   * @param listener the listener to run
+   */
+  public void addDropListener(Runnable listener) {
+    dropListeners.add(listener);
+  }
+
+  /**
+   * Drops every monthly table more than the retention before the given month, then
+   * refreshes the months known to have a table and runs the drop listeners.
+   *
+   * @param current the current month
+   * @return the months whose tables were dropped
+   */
+  public List<YearMonth> dropExpired(YearMonth current) {
+    YearMonth oldestKept = current.minusMonths(retentionMonths);
+    List<YearMonth> dropped = new ArrayList<>();
+    try {
+      for (YearMonth month : sealedMonths().headSet(oldestKept)) {
+        execute("DROP TABLE IF EXISTS " + tableName(month));
+        dropped.add(month);
+      }
+    } finally {
+      try {
+        refreshSealedMonths();
+      } finally {
+        dropListeners.forEach(Runnable::run);
+      }
+    }
+    return dropped;
+  }
+
+  /**
+   * Gets the months known to have a table, refreshing them from the database's metadata
+   * once they are a minute old.
+   */
+  private NavigableSet<YearMonth> knownSealedMonths() {
+    NavigableSet<YearMonth> months = knownSealedMonths;
+    if (months == null || System.nanoTime() - knownSealedMonthsAt > SEALED_MONTHS_MAX_AGE_NANOS) {
+      months = refreshSealedMonths();
+    }
+    return months;
+  }
+
+  private NavigableSet<YearMonth> refreshSealedMonths() {
+    NavigableSet<YearMonth> months = Collections.unmodifiableNavigableSet(sealedMonths());
+    knownSealedMonthsAt = System.nanoTime();
+    knownSealedMonths = months;
+    return months;
+  }
+
+  /**
+   * Finds the months that have a table, in order, from the database's metadata.
+   *
+   * @return the months with a table
+   */
+  public TreeSet<YearMonth> sealedMonths() {
+    return transactionTemplate.execute(status -> entityManager.unwrap(Session.class)
+        .doReturningWork(connection -> {
+          TreeSet<YearMonth> months = new TreeSet<>();
+          DatabaseMetaData metaData = connection.getMetaData();
+          try (ResultSet tables = metaData.getTables(connection.getCatalog(),
+              connection.getSchema(), "%", new String[] {"TABLE"})) {
+            while (tables.next()) {
+              YearMonth month = monthOf(tables.getString("TABLE_NAME"));
+              if (month != null) {
+                months.add(month);
+              }
+            }
+          }
+          return months;
+        }));
+  }
+
+  private void createTable(String table) {
+    try {
+      execute("CREATE TABLE " + table + " AS SELECT " + COLUMNS + " FROM " + LIVE_TABLE
+          + " WHERE 1 = 0");
+    } catch (RuntimeException e) {
+      if (!sealedMonths().contains(monthOf(table))) {
+        throw e;
+      }
+    }
+    createIndex(table, "idx_" + table.toLowerCase(Locale.ROOT) + "_center_id",
+        "storage_center_id, transaction_id");
+    createIndex(table, "idx_" + table.toLowerCase(Locale.ROOT) + "_center_time",
+        STATS_COLUMNS);
+  }
+
+  private void createIndex(String table, String index, String columns) {
+    if (hasIndex(table, index)) {
+      return;
+    }
+    try {
+      execute("CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+    } catch (RuntimeException e) {
+      if (!hasIndex(table, index)) {
+        throw e;
+      }
+    }
+  }
+
+  private boolean hasIndex(String table, String index) {
+    return transactionTemplate.execute(status -> entityManager.unwrap(Session.class)
+        .doReturningWork(connection -> {
+          DatabaseMetaData metaData = connection.getMetaData();
+          for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(),
+                connection.getSchema(), name, false, true)) {
+              while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                  return true;
+                }
+              }
+            }
+          }
+          return false;
+        }));
+  }
+
+  private void execute(String ddl) {
+    transactionTemplate.executeWithoutResult(status ->
+        entityManager.createNativeQuery(ddl).executeUpdate());
+  }
+
+  private static Instant startOf(YearMonth month) {
+    return month.atDay(1).atStartOfDay(ZONE).toInstant();
+  }
+
+  private static Instant endOf(YearMonth month) {
+    return startOf(month.plusMonths(1));
+  }
+}
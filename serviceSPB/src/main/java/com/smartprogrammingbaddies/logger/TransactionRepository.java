@@ -3,7 +3,9 @@ package com.smartprogrammingbaddies.logger;
 import org.springframework.data.repository.CrudRepository;
 
 /**
- * This class contains the TransactionRepository interface.
+ * This class contains the TransactionRepository interface. Rows are only ever added
+ * through it; they are read and retired through {@link TransactionPartitions}, which also
+ * covers the monthly tables.
  */
 public interface TransactionRepository extends CrudRepository<Transaction, Integer> {
 }
@@ -0,0 +1,55 @@
+package com.smartprogrammingbaddies.logger;
+
+import com.smartprogrammingbaddies.utils.SchemaMigration;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Moves a Transaction table created before the monthly rollover tables to their schema at
+ * startup. Such a table still has the old date column, and ddl-auto=update only adds
+ * columns, so its rows would fail to insert. The migration is the versioned MySQL script
+ * {@link #SCRIPT}.
+ */
+@Component
+public class TransactionSchemaMigration extends SchemaMigration {
+  /** The classpath location of the MySQL migration script. */
+  public static final String SCRIPT = "db/migration/mysql/V1__transaction_instant_timestamp.sql";
+  private static final String TABLE = "Transaction";
+  private static final String LEGACY_COLUMN = "date";
+
+  /**
+   * Constructs a TransactionSchemaMigration.
+   *
+   * @param entityManager the entity manager whose connection the script runs on
+   * @param transactionManager the manager of the transaction the script runs in
+   */
+  public TransactionSchemaMigration(EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    super(entityManager, transactionManager, TABLE, SCRIPT, "transaction_schema_migration");
+  }
+
+  /**
+   * Checks whether the Transaction table still has the old date column.
+   */
+  @Override
+  protected boolean isPending(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    for (String table : new String[] {TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+      try (ResultSet columns = metaData.getColumns(connection.getCatalog(),
+          connection.getSchema(), table, null)) {
+        while (columns.next()) {
+          if (LEGACY_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+}
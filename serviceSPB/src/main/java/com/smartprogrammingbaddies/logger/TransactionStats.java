@@ -0,0 +1,255 @@
+package com.smartprogrammingbaddies.logger;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the in and out flows of a storage center per day or week from its transaction
+ * log. The flows are summed by the database in one grouped query per request, and the
+ * flows of closed periods are kept in a bounded LRU cache, so repeated reports only query
+ * the periods that are still open or were never read. A period is closed once it has
+ * ended and every transaction the write-behind log queued before its end is written, and
+ * the cache is cleared whenever the retention drops old monthly tables. Days
+ * start at midnight UTC, like the monthly tables of {@link TransactionPartitions}, and
+ * weeks on Monday.
+ */
+@Component
+public class TransactionStats {
+  /** The most periods one request may cover. */
+  public static final int MAX_PERIODS = 366;
+
+  /**
+   * The length of the periods the flows are grouped by.
+   */
+  public enum Granularity {
+    DAY,
+    WEEK;
+
+    /**
+     * Gets the granularity with the given name, ignoring case.
+     *
+     * @param name the name of the granularity, day or week
+     * @return the granularity
+     * @throws IllegalArgumentException if the name is not day or week
+     */
+    public static Granularity parse(String name) {
+      if (name != null) {
+        for (Granularity granularity : values()) {
+          if (granularity.name().equalsIgnoreCase(name)) {
+            return granularity;
+          }
+        }
+      }
+      throw new IllegalArgumentException("Granularity must be day or week.");
+    }
+
+    LocalDate startOf(LocalDate date) {
+      return this == DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    LocalDate next(LocalDate start) {
+      return this == DAY ? start.plusDays(1) : start.plusWeeks(1);
+    }
+  }
+
+  private final TransactionPartitions transactionPartitions;
+  private final TransactionLog transactionLog;
+  private final int maxSize;
+  private final Map<String, PeriodFlows> closed;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs a TransactionStats caching up to the given number of closed periods.
+   *
+   * @param transactionPartitions the transaction log the flows are summed from
+   * @param transactionLog the log whose queued transactions must be written before a
+   *     period is closed
+   * @param maxSize the most closed periods kept in the cache
+   * @throws IllegalArgumentException if the maximum size is not positive
+   */
+  public TransactionStats(TransactionPartitions transactionPartitions,
+      TransactionLog transactionLog,
+      @Value("${transaction.stats.cache.max-size:10000}") int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Max size must be greater than 0.");
+    }
+    this.transactionPartitions = transactionPartitions;
+    this.transactionLog = transactionLog;
+    this.maxSize = maxSize;
+    this.closed = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, PeriodFlows> eldest) {
+        return size() > TransactionStats.this.maxSize;
+      }
+    };
+    transactionPartitions.addDropListener(this::invalidateAll);
+  }
+
+  /**
+   * Finds the flows of a storage center in every period from the one containing the first
+   * date to the one containing the last, closing the periods that ended before the log's
+   * queued transactions were last written.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param from the first date to report
+   * @param to the last date to report
+   * @param granularity the length of the periods
+   * @return the flows of each period, in order
+   * @throws IllegalArgumentException if the last date is before the first or the range
+   *     covers more than {@link #MAX_PERIODS} periods
+   */
+  public List<PeriodFlows> find(int storageCenterId, LocalDate from, LocalDate to,
+      Granularity granularity) {
+    return find(storageCenterId, from, to, granularity, transactionLog.getWrittenBefore(),
+        TransactionPartitions.ZONE);
+  }
+
+  /**
+   * Finds the flows of a storage center in every period from the one containing the first
+   * date to the one containing the last.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @param from the first date to report
+   * @param to the last date to report
+   * @param granularity the length of the periods
+   * @param closedBefore the time periods ending by which are closed
+   * @param zone the time zone the days start in
+   * @return the flows of each period, in order
+   * @throws IllegalArgumentException if the last date is before the first or the range
+   *     covers more than {@link #MAX_PERIODS} periods
+   */
+  public List<PeriodFlows> find(int storageCenterId, LocalDate from, LocalDate to,
+      Granularity granularity, Instant closedBefore, ZoneId zone) {
+    if (to.isBefore(from)) {
+      throw new IllegalArgumentException("The end date must not be before the start date.");
+    }
+    List<LocalDate> starts = new ArrayList<>();
+    for (LocalDate start = granularity.startOf(from); !start.isAfter(to);
+        start = granularity.next(start)) {
+      if (starts.size() == MAX_PERIODS) {
+        throw new IllegalArgumentException("The range must cover at most " + MAX_PERIODS
+            + " periods.");
+      }
+      starts.add(start);
+    }
+
+    PeriodFlows[] periods = new PeriodFlows[starts.size()];
+    int first = -1;
+    int last = -1;
+    for (int i = 0; i < periods.length; i++) {
+      if (isClosed(starts.get(i), granularity, closedBefore, zone)) {
+        periods[i] = get(key(storageCenterId, granularity, starts.get(i)));
+      }
+      if (periods[i] == null) {
+        first = first < 0 ? i : first;
+        last = i;
+      }
+    }
+    if (first < 0) {
+      return List.of(periods);
+    }
+
+    List<Instant> bounds = new ArrayList<>();
+    for (int i = first; i <= last; i++) {
+      bounds.add(starts.get(i).atStartOfDay(zone).toInstant());
+    }
+    bounds.add(granularity.next(starts.get(last)).atStartOfDay(zone).toInstant());
+    PeriodFlows[] read = new PeriodFlows[last - first + 1];
+    for (int i = 0; i < read.length; i++) {
+      LocalDate start = starts.get(first + i);
+      read[i] = new PeriodFlows(start, granularity.next(start).minusDays(1));
+    }
+    for (Object[] row : transactionPartitions.sumByPeriod(storageCenterId, bounds)) {
+      read[((Number) row[0]).intValue()].add((String) row[1], (String) row[2],
+          ((Number) row[3]).longValue());
+    }
+
+    for (int i = first; i <= last; i++) {
+      if (periods[i] == null) {
+        periods[i] = read[i - first];
+        if (isClosed(starts.get(i), granularity, closedBefore, zone)) {
+          put(key(storageCenterId, granularity, starts.get(i)), periods[i]);
+        }
+      }
+    }
+    return List.of(periods);
+  }
+
+  /**
+   * Removes every period from the cache, for when rows of closed periods change. It is
+   * run after every retention run of the transaction log.
+   */
+  public void invalidateAll() {
+    synchronized (closed) {
+      closed.clear();
+    }
+  }
+
+  /**
+   * Gets the number of closed periods currently cached.
+   *
+   * @return the number of cached periods
+   */
+  public int size() {
+    synchronized (closed) {
+      return closed.size();
+    }
+  }
+
+  /**
+   * Gets the number of closed periods found in the cache since startup.
+   *
+   * @return the number of cache hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of closed periods that had to be read since startup.
+   *
+   * @return the number of cache misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private PeriodFlows get(String key) {
+    synchronized (closed) {
+      PeriodFlows flows = closed.get(key);
+      if (flows == null) {
+        misses.increment();
+      } else {
+        hits.increment();
+      }
+      return flows;
+    }
+  }
+
+  private void put(String key, PeriodFlows flows) {
+    synchronized (closed) {
+      closed.put(key, flows);
+    }
+  }
+
+  private static boolean isClosed(LocalDate start, Granularity granularity,
+      Instant closedBefore, ZoneId zone) {
+    return !granularity.next(start).atStartOfDay(zone).toInstant().isAfter(closedBefore);
+  }
+
+  private static String key(int storageCenterId, Granularity granularity, LocalDate start) {
+    return storageCenterId + "/" + granularity.name().toLowerCase(Locale.ROOT) + "/" + start;
+  }
+}
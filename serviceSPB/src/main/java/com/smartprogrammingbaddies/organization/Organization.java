@@ -1,11 +1,13 @@
 package com.smartprogrammingbaddies.organization;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.smartprogrammingbaddies.client.Client;
 import com.smartprogrammingbaddies.event.Event;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -17,11 +19,12 @@ import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import java.io.Serializable;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
  * The Organization class represents an organization, including their name, their type,
- * and their volunteering schedule.
+ * the client that manages it, and the events it hosts.
  */
 @Entity
 public class Organization implements Serializable {
@@ -32,17 +35,16 @@ public class Organization implements Serializable {
   private String orgType;
   @Temporal(TemporalType.DATE)
   private Date dateAdded;
-  private Set<String> schedule;
   @Column(nullable = false)
   private boolean notificationSubscribed = false;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "client_id")
   private Client client;
-  @OneToOne
+  @OneToOne(fetch = FetchType.LAZY)
   private StorageCenter storage;
   @OneToMany(mappedBy = "organizer", cascade = CascadeType.ALL, orphanRemoval = true)
-  private Set<Event> event;
+  private Set<Event> event = new HashSet<>();
 
   /**
    * Empty constructor for JPA.
@@ -52,28 +54,48 @@ public class Organization implements Serializable {
   }
 
   /**
-   * Constructs a new Organization with the specific name, type, schedule, and adate addded.
+   * Constructs a new Organization with the specific name, type, and client.
 
    * @param orgName the name of the organization.
    * @param orgType the type of the organization.
-   * @param schedule the schedule of the organization.
-   * @param dateAdded the date the organization was added to the system.
+   * @param client the client that manages the organization.
+   * @throws IllegalArgumentException if the name or type are null or blank,
+   *     or the client is null.
    */
-  public Organization(String orgName, String orgType,
-      Set<String> schedule, Date dateAdded) {
+  public Organization(String orgName, String orgType, Client client) {
+    if (orgName == null || orgName.isBlank()) {
+      throw new IllegalArgumentException("Organization name cannot be null or blank.");
+    }
+    if (orgType == null || orgType.isBlank()) {
+      throw new IllegalArgumentException("Organization type cannot be null or blank.");
+    }
+    if (client == null) {
+      throw new IllegalArgumentException("Client cannot be null.");
+    }
     this.orgName = orgName;
     this.orgType = orgType;
-    this.schedule = schedule;
-    this.dateAdded = dateAdded;
+    this.client = client;
+    this.dateAdded = new Date();
   }
 
   /**
-   * Default constructor required for JPA and ObjectMapper.
+   * Returns the database id of the organization.
+
+   * @return the organization's database id.
    */
   public int getDatabaseId() {
     return id;
   }
 
+  /**
+   * Sets the database id of the organization.
+
+   * @param id the new database id of the organization.
+   */
+  public void setDatabaseId(int id) {
+    this.id = id;
+  }
+
   /**
    * Returns the name of the organization.
 
@@ -91,15 +113,6 @@ public class Organization implements Serializable {
   public String getOrgType() {
     return orgType;
   }
-  /**
-   * Returns the schedule of the organization.
-
-   * @return the organization's schedule.
-   */
-
-  public Set<String> getSchedule() {
-    return schedule;
-  }
 
   /**
    * Returns the date the org was added to the system.
@@ -111,10 +124,11 @@ public class Organization implements Serializable {
   }
 
   /**
-   * Gets the id of the client.
+   * Gets the client of the organization.
    *
-   * @return the id of the client
+   * @return the client of the organization
    */
+  @JsonIgnore
   public Client getClient() {
     return client;
   }
@@ -124,39 +138,80 @@ public class Organization implements Serializable {
    *
    * @return the storage center of the organization
    */
+  @JsonIgnore
   public StorageCenter getStorage() {
     return storage;
   }
 
+  /**
+   * Sets the storage center of the organization.
+   *
+   * @param storage the storage center to link to the organization
+   * @throws IllegalArgumentException if the storage center is null
+   */
+  public void setStorage(StorageCenter storage) {
+    if (storage == null) {
+      throw new IllegalArgumentException("Storage center cannot be null.");
+    }
+    this.storage = storage;
+  }
+
   /**
    * Gets the events of the organization.
    *
    * @return the events of the organization
    */
-  public Set<Event> getEvent() {
+  @JsonIgnore
+  public Set<Event> getEvents() {
     return event;
   }
 
   /**
-   * Updates the schedule of the organization.
+   * Adds an event to the organization.
+   *
+   * @param newEvent the event to add
+   * @throws IllegalArgumentException if the event is null
+   */
+  public void addEvent(Event newEvent) {
+    if (newEvent == null) {
+      throw new IllegalArgumentException("Event cannot be null.");
+    }
+    event.add(newEvent);
+  }
 
-   * @param newSchedule the new schedule to change the current one.
+  /**
+   * Removes an event from the organization.
+   *
+   * @param oldEvent the event to remove
+   * @throws IllegalArgumentException if the event is null
    */
-  public void updateSchedule(Set<String> newSchedule) {
-    this.schedule = newSchedule;
+  public void removeEvent(Event oldEvent) {
+    if (oldEvent == null) {
+      throw new IllegalArgumentException("Event cannot be null.");
+    }
+    event.remove(oldEvent);
+  }
+
+  /**
+   * Returns whether the organization is subscribed to event notifications.
+   *
+   * @return true if the organization is subscribed, false otherwise
+   */
+  public boolean getSubscriptionStatus() {
+    return notificationSubscribed;
+  }
+
+  /**
+   * Toggles the organization's subscription to event notifications.
+   */
+  public void changeSubscriptionStatus() {
+    notificationSubscribed = !notificationSubscribed;
   }
 
   @Override
   public String toString() {
-    StringBuilder scheduleString = new StringBuilder();
-
-    for (String entry : schedule) {
-      scheduleString.append("Date: ").append(entry).append("\n")
-                      .append("Times: ").append(entry).append("\n");
-    }
     return "Organization Name: " + orgName + "\n"
             + "Organizaton Type: " + orgType + "\n"
-            + "Date Added: " + dateAdded + "\n"
-            + "Schedule: \n" + scheduleString.toString();
+            + "Date Added: " + dateAdded + "\n";
   }
-}
\ No newline at end of file
+}
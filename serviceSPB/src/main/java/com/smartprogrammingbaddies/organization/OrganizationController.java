@@ -1,20 +1,29 @@
 package com.smartprogrammingbaddies.organization;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.smartprogrammingbaddies.auth.ApiKeyPrincipal;
 import com.smartprogrammingbaddies.client.Client;
 import com.smartprogrammingbaddies.client.ClientRepository;
 import com.smartprogrammingbaddies.event.Event;
 import com.smartprogrammingbaddies.event.EventRepository;
+import com.smartprogrammingbaddies.event.EventSummary;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
 import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
+import com.smartprogrammingbaddies.utils.DateParser;
+import com.smartprogrammingbaddies.utils.ErrorResponse;
+import com.smartprogrammingbaddies.utils.MessageResponse;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +32,9 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public class OrganizationController {
+  private static final int MAX_EVENT_PAGE_SIZE = 100;
+  private static final int UPCOMING_EVENT_DAYS = 30;
+
   @Autowired
   private OrganizationRepository organizationRepository;
 
@@ -35,15 +47,12 @@ public class OrganizationController {
   @Autowired
   private StorageCenterRepository storageCenterRepository;
 
-  private JsonObject json = new JsonObject();
-
-
   /**
    * Creates an organization with the given parameters.
    *
    * @param orgName the name of the Organization.
    * @param orgType the type of the Organization.
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @return A {@code ResponseEntity} A message if the Organization was
    *      successfully created and a HTTP 200 response or,
    *      HTTP 500 reponse if an error occurred,
@@ -53,15 +62,15 @@ public class OrganizationController {
   public ResponseEntity<?> createOrganization(
        @RequestParam("orgName") String orgName,
        @RequestParam("orgType") String orgType,
-       @RequestParam("apiKey") String apiKey) {
+       @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal) {
     try {
-      Client client = clientRepository.findByApiKey(apiKey);
+      Client client = principal.getClient();
       if (client == null) {
         return new ResponseEntity<>("Invalid API Key", HttpStatus.FORBIDDEN);
       }
       Organization organization = new Organization(orgName, orgType, client);
       organization = organizationRepository.save(organization);
-      return new ResponseEntity<>(organization, HttpStatus.OK);
+      return new ResponseEntity<>(new OrganizationProfile(organization), HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -69,36 +78,52 @@ public class OrganizationController {
   }
 
   /**
-   * Retrieves the organization information.
+   * Retrieves the organization information, and the upcoming events if the organization is
+   * subscribed to event notifications.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId  the id of the organization.
+   * @param from the earliest event date to list in the yyyy-MM-dd format, today by default.
+   * @param to the latest event date to list in the yyyy-MM-dd format, 30 days after the
+   *     earliest by default.
+   * @param page the zero-based page of events to list.
+   * @param size the number of events per page, between 1 and 100.
    * @return A {@code ResponseEntity} A message if the Organization was successfully created
-   *     and a HTTP 200 response or, HTTP 500 reponse if an error occurred.
+   *     and a HTTP 200 response or, HTTP 400 response if a parameter is invalid or,
+   *     HTTP 500 reponse if an error occurred.
    */
   @GetMapping("/getOrganization")
   public ResponseEntity<?> getOrganization(
-        @RequestParam("apiKey") String apiKey,
-        @RequestParam("orgId") int orgId) {
+        @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+        @RequestParam("orgId") int orgId,
+        @RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to,
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
 
-      json = organization.toJson();
-
       boolean subscriptionStatus = organization.getSubscriptionStatus();
-      Iterable<Event> events = eventRepository.findAll();
-
-      if (subscriptionStatus) {
-        JsonArray jsonEvents = new JsonArray();
-        for (Event event : events) {
-          jsonEvents.add(event.toString());
-        }
-        json.add("allEvents", jsonEvents);
+      if (!subscriptionStatus) {
+        return ResponseEntity.ok(new OrganizationProfile(organization));
+      }
+      LocalDate fromDate = from == null ? LocalDate.now() : DateParser.stringToNumericDate(from);
+      LocalDate toDate = to == null ? fromDate.plusDays(UPCOMING_EVENT_DAYS)
+          : DateParser.stringToNumericDate(to);
+      if (page < 0) {
+        throw new IllegalArgumentException("Page must not be negative.");
+      }
+      if (size < 1 || size > MAX_EVENT_PAGE_SIZE) {
+        throw new IllegalArgumentException(
+            "Size must be between 1 and " + MAX_EVENT_PAGE_SIZE + ".");
       }
 
-      return ResponseEntity.ok(json.toString());
-
+      Slice<EventSummary> events = eventRepository.findUpcoming(
+          DateParser.numericDateToString(fromDate), DateParser.numericDateToString(toDate),
+          PageRequest.of(page, size));
+      return ResponseEntity.ok(new OrganizationProfile(organization, events.getContent(),
+          events.hasNext()));
     } catch (Exception e) {
       return handleException(e);
     }
@@ -107,28 +132,24 @@ public class OrganizationController {
   /**
    * Changes an organization's subscription status to event notifications.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @return A {@code ResponseEntity} A message if the Organization was successfully found
    *     and status was update with a HTTP 200 response or, HTTP 500 reponse if an error occurred.
    */
   @PatchMapping("/changeSubscriptionStatus")
   public ResponseEntity<?> changeSubscriptionStatus(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
       boolean status = organization.getSubscriptionStatus();
       organization.changeSubscriptionStatus();
       organizationRepository.save(organization);
 
-      if (status) {
-        json.addProperty("subscriptionStatus", "false");
-      } else {
-        json.addProperty("subscriptionStatus", "true");
-      }
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(Map.of("subscriptionStatus", String.valueOf(!status)),
+          HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -138,23 +159,22 @@ public class OrganizationController {
   /**
    * Deletes an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId  the id of the organization.
    * @return A {@code ResponseEntity} A message if the Organization was successfully deleted
    *     and a HTTP 200 response or, HTTP 500 reponse if an error occurred.
    */
   @DeleteMapping("/deleteOrganization")
   public ResponseEntity<?> deleteOrganization(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId) {
     try {
-      verifyApiKey(apiKey, orgId);
-      Client client = clientRepository.findByApiKey(apiKey);
+      Client client = verifyApiKey(principal, orgId);
       organizationRepository.deleteById(orgId);
       client.setOrganization(null);
       clientRepository.save(client);
-      json.addProperty("message", "Organization deleted successfully");
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(new MessageResponse("Organization deleted successfully"),
+          HttpStatus.OK);
 
     } catch (NumberFormatException e) {
       return new ResponseEntity<>("Invalid Organization ID", HttpStatus.BAD_REQUEST);
@@ -166,7 +186,7 @@ public class OrganizationController {
   /**
    * register an event to an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @param eventId the id of the event.
    * @return A {@code ResponseEntity} A message if the event was successfully registered
@@ -174,11 +194,11 @@ public class OrganizationController {
    */
   @PostMapping("/registerEvent")
   public ResponseEntity<?> registerEvent(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId,
           @RequestParam("eventId") int eventId) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
       Event event = eventRepository.findById(eventId).orElseThrow();
       if (event.getOrganizer() != null) {
@@ -188,8 +208,8 @@ public class OrganizationController {
       event.updateOrganizer(organization);
       eventRepository.save(event);
       organizationRepository.save(organization);
-      json.addProperty("message", "Event registered successfully");
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(new MessageResponse("Event registered successfully"),
+          HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -199,7 +219,7 @@ public class OrganizationController {
   /**
    * Unregisters an event from an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @param eventId the id of the event.
    * @return A {@code ResponseEntity} A message if the event was successfully unregistered
@@ -207,11 +227,11 @@ public class OrganizationController {
    */
   @DeleteMapping("/unregisterEvent")
   public ResponseEntity<?> unregisterEvent(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId,
           @RequestParam("eventId") int eventId) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Event event = eventRepository.findById(eventId).orElseThrow();
       if (event.getOrganizer() == null) {
         throw new IllegalArgumentException("Event not registered to an organization");
@@ -221,8 +241,8 @@ public class OrganizationController {
       eventRepository.save(event);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
       organizationRepository.save(organization);
-      json.addProperty("message", "Event unregistered successfully");
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(new MessageResponse("Event unregistered successfully"),
+          HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -232,19 +252,19 @@ public class OrganizationController {
   /**
    * Lists all events registered to an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @return A {@code ResponseEntity} A message if the events were successfully listed
    *     and a HTTP 200 response or, HTTP 500 reponse if an error occurred.
    */
   @GetMapping("/listOrganizationEvents")
   public ResponseEntity<?> listOrganizationEvents(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId) {
     try {
-      verifyApiKey(apiKey, orgId);
-      Organization organization = organizationRepository.findById(orgId).orElseThrow();
-      return new ResponseEntity<>(organization.getEvents(), HttpStatus.OK);
+      verifyApiKey(principal, orgId);
+      organizationRepository.findById(orgId).orElseThrow();
+      return new ResponseEntity<>(eventRepository.findSummariesByOrganizer(orgId), HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -254,7 +274,7 @@ public class OrganizationController {
   /**
    * Link a storage center to an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @param storageId the id of the storage center.
    * @return A {@code ResponseEntity} A message if the storage center was successfully linked
@@ -262,18 +282,17 @@ public class OrganizationController {
    */
   @PostMapping("/linkStorageCenter")
   public ResponseEntity<?> linkStorageCenter(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId,
           @RequestParam("storageId") int storageId) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
       StorageCenter storage = storageCenterRepository.findById(storageId).orElseThrow();
-      storage.setOrganization(organization);
       organization.setStorage(storage);
       organizationRepository.save(organization);
-      json.addProperty("message", "Storage center linked successfully");
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(new MessageResponse("Storage center linked successfully"),
+          HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -283,21 +302,20 @@ public class OrganizationController {
   /**
    * Get the storage center id linked to an organization.
    *
-   * @param apiKey the API key of the client.
+   * @param principal the principal resolved from the client's API key.
    * @param orgId the id of the organization.
    * @return A {@code ResponseEntity} A message if the storage center was retrieved successfully
    *     and a HTTP 200 response or, HTTP 500 reponse if an error occurred.
    */
   @GetMapping("/getStorageCenter")
   public ResponseEntity<?> getStorageCenter(
-          @RequestParam("apiKey") String apiKey,
+          @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
           @RequestParam("orgId") int orgId) {
     try {
-      verifyApiKey(apiKey, orgId);
+      verifyApiKey(principal, orgId);
       Organization organization = organizationRepository.findById(orgId).orElseThrow();
       StorageCenter storage = organization.getStorage();
-      json.addProperty("id", storage.getDatabaseId());
-      return new ResponseEntity<>(json.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(Map.of("id", storage.getId()), HttpStatus.OK);
 
     } catch (Exception e) {
       return handleException(e);
@@ -314,19 +332,18 @@ public class OrganizationController {
    *     and a HTTP 200 response or, HTTP 500 reponse if an error occurred.
    */
   private ResponseEntity<?> handleException(Exception e) {
-    JsonObject json = new JsonObject();
-    json.addProperty("error", e.getMessage());
-    boolean isBadRequest = e instanceof IllegalArgumentException;
+    ErrorResponse error = new ErrorResponse(e.getMessage());
+    boolean isBadRequest = e instanceof IllegalArgumentException
+        || e instanceof DateTimeException;
     if (isBadRequest) {
-      json.addProperty("error", e.getMessage());
-      return ResponseEntity.badRequest().body(json.toString());
+      return ResponseEntity.badRequest().body(error);
     }
 
-    return new ResponseEntity<>(json.toString(), HttpStatus.INTERNAL_SERVER_ERROR);
+    return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
-  private void verifyApiKey(String apiKey, int orgId) {
-    Client client = clientRepository.findByApiKey(apiKey);
+  private Client verifyApiKey(ApiKeyPrincipal principal, int orgId) {
+    Client client = principal.getClient();
     if (client == null) {
       throw new IllegalArgumentException("Invalid API Key");
     }
@@ -338,5 +355,6 @@ public class OrganizationController {
     if (clientOrganization.getDatabaseId() != orgId) {
       throw new IllegalArgumentException("Not authorized to access organization");
     }
+    return client;
   }
 }
\ No newline at end of file
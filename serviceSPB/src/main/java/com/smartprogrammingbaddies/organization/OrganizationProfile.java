@@ -0,0 +1,111 @@
+package com.smartprogrammingbaddies.organization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.smartprogrammingbaddies.event.EventSummary;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An organization's details as returned by /getOrganization, with a page of upcoming events
+ * when the organization is subscribed to event notifications.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrganizationProfile {
+  private final int id;
+  private final String orgName;
+  private final String orgType;
+  private final Date dateAdded;
+  private final boolean subscriptionStatus;
+  private final List<EventSummary> upcomingEvents;
+  private final Boolean hasMoreEvents;
+
+  /**
+   * Constructs the profile of an organization without any events.
+   *
+   * @param organization the organization
+   */
+  public OrganizationProfile(Organization organization) {
+    this(organization, null, null);
+  }
+
+  /**
+   * Constructs the profile of an organization with a page of its upcoming events.
+   *
+   * @param organization the organization
+   * @param upcomingEvents the page of upcoming events, or null to leave them out
+   * @param hasMoreEvents whether there is another page of events, or null to leave it out
+   */
+  public OrganizationProfile(Organization organization, List<EventSummary> upcomingEvents,
+      Boolean hasMoreEvents) {
+    this.id = organization.getDatabaseId();
+    this.orgName = organization.getOrgName();
+    this.orgType = organization.getOrgType();
+    this.dateAdded = organization.getDateAdded();
+    this.subscriptionStatus = organization.getSubscriptionStatus();
+    this.upcomingEvents = upcomingEvents;
+    this.hasMoreEvents = hasMoreEvents;
+  }
+
+  /**
+   * Gets the database id of the organization.
+   *
+   * @return the organization's database id
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the organization.
+   *
+   * @return the organization's name
+   */
+  public String getOrgName() {
+    return orgName;
+  }
+
+  /**
+   * Gets the type of the organization.
+   *
+   * @return the organization's type
+   */
+  public String getOrgType() {
+    return orgType;
+  }
+
+  /**
+   * Gets the date the organization was added to the system.
+   *
+   * @return the date the organization was added
+   */
+  public Date getDateAdded() {
+    return dateAdded;
+  }
+
+  /**
+   * Gets whether the organization is subscribed to event notifications.
+   *
+   * @return true if the organization is subscribed, false otherwise
+   */
+  public boolean getSubscriptionStatus() {
+    return subscriptionStatus;
+  }
+
+  /**
+   * Gets the page of upcoming events.
+   *
+   * @return the upcoming events, or null if the organization is not subscribed
+   */
+  public List<EventSummary> getUpcomingEvents() {
+    return upcomingEvents;
+  }
+
+  /**
+   * Gets whether there is another page of upcoming events.
+   *
+   * @return whether there are more events, or null if the organization is not subscribed
+   */
+  public Boolean getHasMoreEvents() {
+    return hasMoreEvents;
+  }
+}
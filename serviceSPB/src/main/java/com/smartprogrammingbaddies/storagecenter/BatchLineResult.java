@@ -0,0 +1,90 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The result of one line of a batch check-in or check-out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchLineResult {
+  private final int line;
+  private final String type;
+  private final String name;
+  private final int quantity;
+  private final InventoryService.Outcome outcome;
+  private final String error;
+
+  /**
+   * Constructs the result of a batch line.
+   *
+   * @param line the zero-based position of the line in the batch
+   * @param type the type of the item
+   * @param name the name of the item
+   * @param quantity the quantity requested
+   * @param outcome what happened to the line
+   * @param error why the line was rejected, or null if it was applied
+   */
+  public BatchLineResult(int line, String type, String name, int quantity,
+      InventoryService.Outcome outcome, String error) {
+    this.line = line;
+    this.type = type;
+    this.name = name;
+    this.quantity = quantity;
+    this.outcome = outcome;
+    this.error = error;
+  }
+
+  /**
+   * Gets the zero-based position of the line in the batch.
+   *
+   * @return the position of the line
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * Gets the type of the item.
+   *
+   * @return the type of the item
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Gets the name of the item.
+   *
+   * @return the name of the item
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the quantity requested.
+   *
+   * @return the quantity requested
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+  /**
+   * Gets what happened to the line.
+   *
+   * @return the outcome of the line
+   */
+  public InventoryService.Outcome getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Gets why the line was rejected.
+   *
+   * @return the error message, or null if the line was applied
+   */
+  public String getError() {
+    return error;
+  }
+}
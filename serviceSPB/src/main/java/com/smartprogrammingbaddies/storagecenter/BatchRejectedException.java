@@ -0,0 +1,42 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import java.util.List;
+
+/**
+ * Thrown when an all-or-nothing batch cannot be applied because some of its lines fail.
+ * None of the batch is applied.
+ */
+public class BatchRejectedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  private final transient List<BatchLineResult> failedLines;
+
+  /**
+   * Constructs the exception for the lines that failed.
+   *
+   * @param failedLines the lines that failed and why
+   */
+  public BatchRejectedException(List<BatchLineResult> failedLines) {
+    super(failedLines.size() + " line(s) of the batch could not be applied.");
+    this.failedLines = List.copyOf(failedLines);
+  }
+
+  /**
+   * Gets the lines that failed.
+   *
+   * @return the failed lines and why each failed
+   */
+  public List<BatchLineResult> getFailedLines() {
+    return failedLines;
+  }
+
+  /**
+   * Returns whether every failed line was well formed and failed only for lack of stock.
+   *
+   * @return true if no line was rejected as invalid
+   */
+  public boolean isStockShortage() {
+    return failedLines.stream()
+        .noneMatch(line -> line.getOutcome() == InventoryService.Outcome.REJECTED);
+  }
+}
@@ -0,0 +1,90 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.smartprogrammingbaddies.utils.TimeSlot;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The name, description and operating hours of a storage center, as returned by
+ * /getCenterInfo.
+ */
+public class CenterInfo {
+  private final String name;
+  private final String description;
+  private final Map<DayOfWeek, Hours> operationHours = new EnumMap<>(DayOfWeek.class);
+
+  /**
+   * Constructs the info of a storage center, with its hours ordered from Monday.
+   *
+   * @param center the storage center
+   */
+  public CenterInfo(StorageCenter center) {
+    this.name = center.getName();
+    this.description = center.getDescription();
+    center.getOperatingHours().forEach((day, timeSlot) ->
+        operationHours.put(day, new Hours(timeSlot)));
+  }
+
+  /**
+   * Gets the name of the storage center.
+   *
+   * @return the name of the storage center
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the description of the storage center.
+   *
+   * @return the description of the storage center
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Gets the operating hours of the storage center.
+   *
+   * @return the opening and closing times of each day the storage center is open
+   */
+  public Map<DayOfWeek, Hours> getOperationHours() {
+    return operationHours;
+  }
+
+  /**
+   * The opening and closing times of one day.
+   */
+  public static class Hours {
+    @JsonFormat(pattern = "HH:mm")
+    private final LocalTime start;
+    @JsonFormat(pattern = "HH:mm")
+    private final LocalTime end;
+
+    Hours(TimeSlot timeSlot) {
+      this.start = timeSlot.getStartTime();
+      this.end = timeSlot.getEndTime();
+    }
+
+    /**
+     * Gets the opening time.
+     *
+     * @return the opening time
+     */
+    public LocalTime getStart() {
+      return start;
+    }
+
+    /**
+     * Gets the closing time.
+     *
+     * @return the closing time
+     */
+    public LocalTime getEnd() {
+      return end;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * One page of the storage center summaries.
+ */
+public class CenterPage {
+  private final List<CenterSummary> centers;
+  private final int page;
+  private final int size;
+  private final boolean hasNext;
+
+  /**
+   * Constructs a page of storage center summaries.
+   *
+   * @param centers the summaries of the page
+   * @param page the zero-based page number
+   * @param size the page size that was requested
+   * @param hasNext whether there is a page after this one
+   */
+  public CenterPage(List<CenterSummary> centers, int page, int size, boolean hasNext) {
+    this.centers = centers;
+    this.page = page;
+    this.size = size;
+    this.hasNext = hasNext;
+  }
+
+  /**
+   * Gets the summaries of the page.
+   *
+   * @return the summaries, in ID order
+   */
+  public List<CenterSummary> getCenters() {
+    return centers;
+  }
+
+  /**
+   * Gets the zero-based page number.
+   *
+   * @return the page number
+   */
+  public int getPage() {
+    return page;
+  }
+
+  /**
+   * Gets the page size that was requested.
+   *
+   * @return the page size
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns whether there is a page after this one.
+   *
+   * @return true if more centers follow
+   */
+  @JsonProperty("hasNext")
+  public boolean hasNext() {
+    return hasNext;
+  }
+}
@@ -0,0 +1,117 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalTime;
+
+/**
+ * A storage center as listed by /listAllCenters: its details, today's operating hours and
+ * totals over its inventory, computed by the database rather than from loaded items.
+ */
+public class CenterSummary {
+  private final int id;
+  private final String name;
+  private final String description;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime opensToday;
+  @JsonFormat(pattern = "HH:mm")
+  private final LocalTime closesToday;
+  private final long itemCount;
+  private final long totalQuantity;
+  private final long expiringSoonCount;
+
+  /**
+   * Constructs a CenterSummary from the selected columns and totals of a storage center.
+   *
+   * @param id the database ID of the storage center
+   * @param name the name of the storage center
+   * @param description the description of the storage center
+   * @param opensToday the opening time today, or null if the center has no hours today
+   * @param closesToday the closing time today, or null if the center has no hours today
+   * @param itemCount the number of distinct items in stock
+   * @param totalQuantity the total quantity of all items in stock
+   * @param expiringSoonCount the number of items expiring between today and the cutoff
+   */
+  public CenterSummary(int id, String name, String description, LocalTime opensToday,
+      LocalTime closesToday, long itemCount, long totalQuantity, long expiringSoonCount) {
+    this.id = id;
+    this.name = name;
+    this.description = description;
+    this.opensToday = opensToday;
+    this.closesToday = closesToday;
+    this.itemCount = itemCount;
+    this.totalQuantity = totalQuantity;
+    this.expiringSoonCount = expiringSoonCount;
+  }
+
+  /**
+   * Gets the database ID of the storage center.
+   *
+   * @return the database ID of the storage center
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the storage center.
+   *
+   * @return the name of the storage center
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the description of the storage center.
+   *
+   * @return the description of the storage center
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Gets the time the storage center opens today.
+   *
+   * @return the opening time, or null if the center has no hours today
+   */
+  public LocalTime getOpensToday() {
+    return opensToday;
+  }
+
+  /**
+   * Gets the time the storage center closes today.
+   *
+   * @return the closing time, or null if the center has no hours today
+   */
+  public LocalTime getClosesToday() {
+    return closesToday;
+  }
+
+  /**
+   * Gets the number of distinct items in stock.
+   *
+   * @return the number of items
+   */
+  public long getItemCount() {
+    return itemCount;
+  }
+
+  /**
+   * Gets the total quantity of all items in stock.
+   *
+   * @return the total quantity
+   */
+  public long getTotalQuantity() {
+    return totalQuantity;
+  }
+
+  /**
+   * Gets the number of items that expire soon but have not expired yet.
+   *
+   * @return the number of items expiring soon
+   */
+  public long getExpiringSoonCount() {
+    return expiringSoonCount;
+  }
+}
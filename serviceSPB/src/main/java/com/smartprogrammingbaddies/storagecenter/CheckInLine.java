@@ -0,0 +1,105 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+/**
+ * One line of a batch check-in: a quantity of a single item received by a storage center.
+ */
+public class CheckInLine {
+  private String type;
+  private String name;
+  private int quantity;
+  private String expirationDate;
+
+  /**
+   * Empty constructor needed for JSON binding.
+   */
+  public CheckInLine() {
+    // Empty constructor needed for JSON binding
+  }
+
+  /**
+   * Constructs a batch check-in line.
+   *
+   * @param type the type of the item
+   * @param name the name of the item
+   * @param quantity the quantity received
+   * @param expirationDate the expiration date in the yyyy-MM-dd format, or null
+   */
+  public CheckInLine(String type, String name, int quantity, String expirationDate) {
+    this.type = type;
+    this.name = name;
+    this.quantity = quantity;
+    this.expirationDate = expirationDate;
+  }
+
+  /**
+   * Gets the type of the item.
+   *
+   * @return the type of the item
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Sets the type of the item.
+   *
+   * @param type the type of the item
+   */
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  /**
+   * Gets the name of the item.
+   *
+   * @return the name of the item
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the name of the item.
+   *
+   * @param name the name of the item
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the quantity received.
+   *
+   * @return the quantity received
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+  /**
+   * Sets the quantity received.
+   *
+   * @param quantity the quantity received
+   */
+  public void setQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+
+  /**
+   * Gets the expiration date of the item.
+   *
+   * @return the expiration date in the yyyy-MM-dd format, or null
+   */
+  public String getExpirationDate() {
+    return expirationDate;
+  }
+
+  /**
+   * Sets the expiration date of the item.
+   *
+   * @param expirationDate the expiration date in the yyyy-MM-dd format, or null
+   */
+  public void setExpirationDate(String expirationDate) {
+    this.expirationDate = expirationDate;
+  }
+}
@@ -0,0 +1,84 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+/**
+ * One line of a batch check-out: a quantity of a single item given out by a storage center.
+ */
+public class CheckOutLine {
+  private String type;
+  private String name;
+  private int quantity;
+
+  /**
+   * Empty constructor needed for JSON binding.
+   */
+  public CheckOutLine() {
+    // Empty constructor needed for JSON binding
+  }
+
+  /**
+   * Constructs a batch check-out line.
+   *
+   * @param type the type of the item
+   * @param name the name of the item
+   * @param quantity the quantity given out
+   */
+  public CheckOutLine(String type, String name, int quantity) {
+    this.type = type;
+    this.name = name;
+    this.quantity = quantity;
+  }
+
+  /**
+   * Gets the type of the item.
+   *
+   * @return the type of the item
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Sets the type of the item.
+   *
+   * @param type the type of the item
+   */
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  /**
+   * Gets the name of the item.
+   *
+   * @return the name of the item
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the name of the item.
+   *
+   * @param name the name of the item
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the quantity given out.
+   *
+   * @return the quantity given out
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+  /**
+   * Sets the quantity given out.
+   *
+   * @param quantity the quantity given out
+   */
+  public void setQuantity(int quantity) {
+    this.quantity = quantity;
+  }
+}
@@ -0,0 +1,181 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.smartprogrammingbaddies.utils.NamedLock;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes expired items from every storage center on a schedule, so expired stock does not
+ * build up between calls to /removeExpiredItems. Centers are read by ID in bounded chunks
+ * and each chunk is swept on a small pool of threads, one center per task, before the next
+ * chunk is read. A run that is still going when the next one is due is not overlapped.
+ * A center whose sweep fails is logged with its ID and cause. On MySQL a run holds a named
+ * lock on the primary database, so when several instances are due at once only one of them
+ * sweeps and the others skip the run.
+ */
+@Component
+public class ExpirationSweeper {
+  private static final Logger logger = LoggerFactory.getLogger(ExpirationSweeper.class);
+  private static final String LOCK = "expiration_sweep";
+  private final StorageCenterRepository storageCenterRepository;
+  private final InventoryService inventoryService;
+  private final DataSource dataSource;
+  private final int chunkSize;
+  private final ExecutorService executor;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile SweepStats lastRun = new SweepStats(null, 0, 0, 0, 0);
+
+  /**
+   * Constructs an ExpirationSweeper with the given chunk size and number of threads.
+   *
+   * @param storageCenterRepository the repository the storage center IDs are read from
+   * @param inventoryService the service that removes a center's expired items
+   * @param dataSource the primary database the sweep lock is taken on
+   * @param chunkSize the number of storage centers read and swept at a time
+   * @param threads the number of storage centers swept at once
+   * @throws IllegalArgumentException if the chunk size or number of threads is not positive
+   */
+  public ExpirationSweeper(StorageCenterRepository storageCenterRepository,
+      InventoryService inventoryService,
+      @Qualifier("primaryDataSource") DataSource dataSource,
+      @Value("${expiration.sweep.chunk-size:100}") int chunkSize,
+      @Value("${expiration.sweep.threads:2}") int threads) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be greater than 0.");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be greater than 0.");
+    }
+    this.storageCenterRepository = storageCenterRepository;
+    this.inventoryService = inventoryService;
+    this.dataSource = dataSource;
+    this.chunkSize = chunkSize;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(threads, task -> {
+      Thread thread = new Thread(task, "expiration-sweep-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Sweeps every storage center on the configured schedule, 3 AM daily by default.
+   */
+  @Scheduled(cron = "${expiration.sweep.cron:0 0 3 * * *}")
+  public void scheduledSweep() {
+    sweep();
+  }
+
+  /**
+   * Removes the expired items of every storage center. A center whose sweep fails is
+   * logged, counted and skipped; the rest are still swept. A run that is interrupted stops
+   * and records the centers swept up to then.
+   *
+   * @return the metrics of the run, or of the last finished run if one is already going on
+   *     this or another instance
+   * @throws IllegalStateException if the sweep lock could not be requested
+   */
+  public SweepStats sweep() {
+    if (!running.compareAndSet(false, true)) {
+      return lastRun;
+    }
+    try (Connection connection = dataSource.getConnection()) {
+      boolean locking = NamedLock.isSupported(connection);
+      if (locking && !NamedLock.acquire(connection, LOCK, 0)) {
+        logger.info("Expiration sweep skipped, another instance is sweeping");
+        return lastRun;
+      }
+      try {
+        return sweepCenters();
+      } finally {
+        if (locking) {
+          NamedLock.release(connection, LOCK);
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not take the expiration sweep lock.", e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private SweepStats sweepCenters() {
+    LocalDateTime startedAt = LocalDateTime.now();
+    long start = System.nanoTime();
+    int centersScanned = 0;
+    long itemsPurged = 0;
+    int failures = 0;
+    Map<Integer, Future<Integer>> results = new LinkedHashMap<>();
+    SweepStats stats;
+    try {
+      int afterId = 0;
+      List<Integer> ids;
+      do {
+        ids = storageCenterRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        results.clear();
+        for (int id : ids) {
+          results.put(id, executor.submit(() -> inventoryService.removeExpired(id)));
+        }
+        for (Map.Entry<Integer, Future<Integer>> result : results.entrySet()) {
+          try {
+            itemsPurged += result.getValue().get();
+          } catch (ExecutionException e) {
+            failures++;
+            logger.error("Failed to remove expired items from storage center {}",
+                result.getKey(), e.getCause());
+          }
+          centersScanned++;
+        }
+        if (!ids.isEmpty()) {
+          afterId = ids.get(ids.size() - 1);
+        }
+      } while (ids.size() == chunkSize);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      results.values().forEach(result -> result.cancel(true));
+      logger.warn("Expiration sweep interrupted after {} storage centers", centersScanned);
+    } finally {
+      long durationMillis = (System.nanoTime() - start) / 1_000_000L;
+      stats = new SweepStats(startedAt, centersScanned, itemsPurged, failures,
+          durationMillis);
+      lastRun = stats;
+    }
+    return stats;
+  }
+
+  /**
+   * Gets the metrics of the last finished run.
+   *
+   * @return the metrics of the last finished run, with no start time if none has run
+   */
+  public SweepStats getLastRun() {
+    return lastRun;
+  }
+
+  /**
+   * Stops the sweeper's threads when the application shuts down.
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,429 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import com.smartprogrammingbaddies.item.InventoryTotal;
+import com.smartprogrammingbaddies.item.InventoryTotalId;
+import com.smartprogrammingbaddies.item.InventoryTotalRepository;
+import com.smartprogrammingbaddies.item.Item;
+import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.item.ItemRepository;
+import com.smartprogrammingbaddies.logger.Transaction;
+import com.smartprogrammingbaddies.logger.TransactionLog;
+import jakarta.persistence.EntityManager;
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies check-ins and check-outs to a storage center's inventory. Quantities are
+ * changed with single UPDATE statements in the database rather than loaded, changed
+ * and saved, so concurrent volunteers at the same center cannot overwrite each
+ * other's updates. Each change and its change to the center's inventory totals commit
+ * together, as does its transaction log row unless the log is in write-behind mode.
+ */
+@Service
+public class InventoryService {
+  /**
+   * Logs a transaction for every expired item of a center. Item types are stored by ordinal
+   * and logged by name, so the CASE must list every ItemType. Transaction IDs come from a
+   * sequence with a pooled optimizer, so Hibernate assigns them through a temporary table,
+   * and Hibernate 6.4 cannot bind parameters in that kind of INSERT ... SELECT (see
+   * RemoveExpiredTests). The center and date are formatted into the query instead; both
+   * are typed values, an int and a LocalDate, so no request text reaches the query.
+   */
+  private static final String LOG_EXPIRED = "INSERT INTO Transaction (timestamp, "
+      + "storageCenterId, itemName, itemType, quantity, action) "
+      + "SELECT instant, i.itemType.storageCenterId, i.itemType.name, CASE i.itemType.type "
+      + "WHEN com.smartprogrammingbaddies.item.ItemId$ItemType.FOOD THEN 'FOOD' "
+      + "WHEN com.smartprogrammingbaddies.item.ItemId$ItemType.TOILETRIES THEN 'TOILETRIES' "
+      + "WHEN com.smartprogrammingbaddies.item.ItemId$ItemType.CLOTHING THEN 'CLOTHING' "
+      + "END, i.quantity, 'Remove Expired Item' FROM Item i "
+      + "WHERE i.itemType.storageCenterId = %d "
+      + "AND i.expirationDate < cast('%s' as LocalDate)";
+
+  @Autowired
+  ItemRepository itemRepository;
+  @Autowired
+  TransactionLog transactionLog;
+  @Autowired
+  InventoryTotalRepository inventoryTotalRepository;
+  @Autowired
+  EntityManager entityManager;
+
+  /**
+   * The result of a check-in or check-out.
+   */
+  public enum Outcome {
+    ADDED,
+    UPDATED,
+    CHECKED_OUT,
+    REMOVED,
+    NOT_FOUND,
+    SHORT,
+    REJECTED
+  }
+
+  /**
+   * Checks an item into a storage center, adding it to the inventory if it is not stocked.
+   *
+   * @param center the storage center receiving the item
+   * @param itemId the ID of the item, including its storage center
+   * @param quantity the quantity received
+   * @param expirationDate the expiration date in the yyyy-MM-dd format, used for new items
+   * @return ADDED if the item was new to the center, UPDATED otherwise
+   * @throws ParseException if the expiration date of a new item is incorrectly formatted
+   * @throws IllegalArgumentException if the quantity is not positive
+   */
+  @Transactional
+  public Outcome checkIn(StorageCenter center, ItemId itemId, int quantity,
+      String expirationDate) throws ParseException {
+    if (quantity <= 0) {
+      throw new IllegalArgumentException("Quantity must be greater than 0.");
+    }
+
+    Outcome outcome = Outcome.UPDATED;
+    TotalChange change = new TotalChange();
+    change.quantity = quantity;
+    if (itemRepository.incrementQuantity(itemId, quantity) == 0) {
+      Item item = new Item(itemId, quantity, managed(center), expirationDate);
+      entityManager.persist(item);
+      change.added(item.getExpirationDate());
+      outcome = Outcome.ADDED;
+    }
+    applyTotal(new InventoryTotalId(itemId), change);
+    transactionLog.record(new Transaction(center, itemId, quantity, "Check In"));
+    return outcome;
+  }
+
+  /**
+   * Checks an item out of a storage center, removing it from the inventory once none is left.
+   *
+   * @param center the storage center giving out the item
+   * @param itemId the ID of the item, including its storage center
+   * @param quantity the quantity given out
+   * @return REMOVED if none of the item is left, CHECKED_OUT if some is left,
+   *     or NOT_FOUND if the center does not stock the item
+   * @throws IllegalArgumentException if the quantity is not positive or exceeds the stock
+   */
+  @Transactional
+  public Outcome checkOut(StorageCenter center, ItemId itemId, int quantity) {
+    if (quantity <= 0) {
+      throw new IllegalArgumentException("quantity must be greater than 0.");
+    }
+
+    if (itemRepository.decrementQuantity(itemId, quantity) == 0) {
+      if (!itemRepository.existsById(itemId)) {
+        return Outcome.NOT_FOUND;
+      }
+      throw new IllegalArgumentException("quantity must be less than or equal to the quantity.");
+    }
+
+    Outcome outcome = Outcome.CHECKED_OUT;
+    String action = "Check Out";
+    TotalChange change = new TotalChange();
+    change.quantity = -quantity;
+    if (itemRepository.deleteIfEmpty(itemId) > 0) {
+      outcome = Outcome.REMOVED;
+      action = "Removed from inventory";
+      change.skus = -1;
+    }
+    applyTotal(new InventoryTotalId(itemId), change);
+    transactionLog.record(new Transaction(center, itemId, quantity, action));
+    return outcome;
+  }
+
+  /**
+   * Checks a batch of items into a storage center. Every line is applied or rejected on
+   * its own: a line with an unknown type, a blank name, a non-positive quantity or a bad
+   * expiration date is reported and skipped without affecting the others. The stocked
+   * items are read and locked with one query, and the item and transaction log writes
+   * are sent to the database in JDBC batches when the transaction commits.
+   *
+   * @param center the storage center receiving the items
+   * @param lines the items received
+   * @return the result of each line, in the order of the lines
+   * @throws IllegalArgumentException if there are no lines
+   */
+  @Transactional
+  public List<BatchLineResult> checkInBatch(StorageCenter center, List<CheckInLine> lines) {
+    if (lines == null || lines.isEmpty()) {
+      throw new IllegalArgumentException("Batch must contain at least one line.");
+    }
+
+    Set<String> names = new HashSet<>();
+    for (CheckInLine line : lines) {
+      if (line != null && line.getName() != null) {
+        names.add(line.getName());
+      }
+    }
+    Map<ItemId, Item> stocked = new HashMap<>();
+    if (!names.isEmpty()) {
+      for (Item item : itemRepository.lockByStorageCenterAndNames(center.getDatabaseId(), names)) {
+        stocked.put(item.getItemId(), item);
+      }
+    }
+
+    List<BatchLineResult> results = new ArrayList<>(lines.size());
+    List<Transaction> transactions = new ArrayList<>(lines.size());
+    Map<ItemId.ItemType, TotalChange> changes = new EnumMap<>(ItemId.ItemType.class);
+    for (int i = 0; i < lines.size(); i++) {
+      CheckInLine line = lines.get(i);
+      if (line == null) {
+        results.add(new BatchLineResult(i, null, null, 0, Outcome.REJECTED,
+            "Line must not be null."));
+        continue;
+      }
+      try {
+        Outcome outcome = checkInLine(center, line, stocked, transactions, changes);
+        results.add(new BatchLineResult(i, line.getType(), line.getName(), line.getQuantity(),
+            outcome, null));
+      } catch (IllegalArgumentException | DateTimeException | ParseException e) {
+        results.add(new BatchLineResult(i, line.getType(), line.getName(), line.getQuantity(),
+            Outcome.REJECTED, e.getMessage()));
+      }
+    }
+    applyTotals(center, changes);
+    transactionLog.recordAll(transactions);
+    return results;
+  }
+
+  private Outcome checkInLine(StorageCenter center, CheckInLine line,
+      Map<ItemId, Item> stocked, List<Transaction> transactions,
+      Map<ItemId.ItemType, TotalChange> changes) throws ParseException {
+    ItemId itemId = new ItemId(center.getDatabaseId(), line.getType(), line.getName());
+    Item item = stocked.get(itemId);
+    Outcome outcome = Outcome.UPDATED;
+    if (item != null) {
+      item.incrementQuantity(line.getQuantity());
+    } else {
+      if (line.getQuantity() <= 0) {
+        throw new IllegalArgumentException("Quantity must be greater than 0.");
+      }
+      item = new Item(itemId, line.getQuantity(), managed(center), line.getExpirationDate());
+      entityManager.persist(item);
+      stocked.put(itemId, item);
+      outcome = Outcome.ADDED;
+      change(changes, itemId).added(item.getExpirationDate());
+    }
+    change(changes, itemId).quantity += line.getQuantity();
+    transactions.add(new Transaction(center, itemId, line.getQuantity(), "Check In"));
+    return outcome;
+  }
+
+  /**
+   * Gets the storage center as an entity of this transaction. Centers are loaded by the
+   * controllers outside of it, and a new item must refer to a managed center to be
+   * persisted; the reference does not load the center again.
+   */
+  private StorageCenter managed(StorageCenter center) {
+    return entityManager.contains(center) ? center
+        : entityManager.getReference(StorageCenter.class, center.getDatabaseId());
+  }
+
+  /**
+   * Checks a batch of items out of a storage center, such as one client's basket. The
+   * batch is all or nothing: the stock for every line is checked against one locking
+   * query over the center's items, and if any line names an unstocked item, asks for
+   * more than is left or is invalid, nothing is changed. Items that run out are deleted,
+   * and the item and transaction log writes are sent in JDBC batches on commit.
+   *
+   * @param center the storage center giving out the items
+   * @param lines the items given out
+   * @return the result of each line, in the order of the lines
+   * @throws IllegalArgumentException if there are no lines
+   * @throws BatchRejectedException if any line cannot be applied, listing those lines
+   */
+  @Transactional
+  public List<BatchLineResult> checkOutBatch(StorageCenter center, List<CheckOutLine> lines) {
+    if (lines == null || lines.isEmpty()) {
+      throw new IllegalArgumentException("Batch must contain at least one line.");
+    }
+
+    Set<String> names = new HashSet<>();
+    for (CheckOutLine line : lines) {
+      if (line != null && line.getName() != null) {
+        names.add(line.getName());
+      }
+    }
+    Map<ItemId, Item> stocked = new HashMap<>();
+    if (!names.isEmpty()) {
+      for (Item item : itemRepository.lockByStorageCenterAndNames(center.getDatabaseId(), names)) {
+        stocked.put(item.getItemId(), item);
+      }
+    }
+
+    List<BatchLineResult> results = new ArrayList<>(lines.size());
+    List<BatchLineResult> failures = new ArrayList<>();
+    List<Transaction> transactions = new ArrayList<>(lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      BatchLineResult result = checkOutLine(center, lines.get(i), i, stocked, transactions);
+      results.add(result);
+      if (result.getError() != null) {
+        failures.add(result);
+      }
+    }
+    if (!failures.isEmpty()) {
+      throw new BatchRejectedException(failures);
+    }
+
+    Map<ItemId.ItemType, TotalChange> changes = new EnumMap<>(ItemId.ItemType.class);
+    for (BatchLineResult result : results) {
+      ItemId itemId = new ItemId(center.getDatabaseId(), result.getType(), result.getName());
+      TotalChange change = change(changes, itemId);
+      change.quantity -= result.getQuantity();
+      if (result.getOutcome() == Outcome.REMOVED) {
+        entityManager.remove(stocked.get(itemId));
+        change.skus--;
+      }
+    }
+    entityManager.flush();
+    applyTotals(center, changes);
+    transactionLog.recordAll(transactions);
+    return results;
+  }
+
+  private BatchLineResult checkOutLine(StorageCenter center, CheckOutLine line, int index,
+      Map<ItemId, Item> stocked, List<Transaction> transactions) {
+    if (line == null) {
+      return new BatchLineResult(index, null, null, 0, Outcome.REJECTED,
+          "Line must not be null.");
+    }
+
+    String type = line.getType();
+    String name = line.getName();
+    int quantity = line.getQuantity();
+    ItemId itemId;
+    try {
+      itemId = new ItemId(center.getDatabaseId(), type, name);
+    } catch (IllegalArgumentException e) {
+      return new BatchLineResult(index, type, name, quantity, Outcome.REJECTED, e.getMessage());
+    }
+    if (quantity <= 0) {
+      return new BatchLineResult(index, type, name, quantity, Outcome.REJECTED,
+          "quantity must be greater than 0.");
+    }
+
+    Item item = stocked.get(itemId);
+    if (item == null) {
+      return new BatchLineResult(index, type, name, quantity, Outcome.NOT_FOUND,
+          "The item was not found in the storage center");
+    }
+    if (item.getQuantity() < quantity) {
+      return new BatchLineResult(index, type, name, quantity, Outcome.SHORT,
+          "Only " + item.getQuantity() + " left in stock");
+    }
+
+    item.decrementQuantity(quantity);
+    Outcome outcome = Outcome.CHECKED_OUT;
+    String action = "Check Out";
+    if (item.getQuantity() == 0) {
+      outcome = Outcome.REMOVED;
+      action = "Removed from inventory";
+    }
+    transactions.add(new Transaction(center, itemId, quantity, action));
+    return new BatchLineResult(index, type, name, quantity, outcome, null);
+  }
+
+  /**
+   * Removes every item of a storage center that expired before today. The transaction log
+   * rows are written with one INSERT ... SELECT and the items removed with one DELETE, so
+   * none of the items are loaded however large the inventory is. The expired items are
+   * taken out of the center's totals before they are deleted, and the next expiration
+   * dates of the affected types are found again afterwards.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the number of items removed
+   */
+  @Transactional
+  public int removeExpired(int storageCenterId) {
+    LocalDate today = LocalDate.now();
+    entityManager.createQuery(String.format(LOG_EXPIRED, storageCenterId, today))
+        .executeUpdate();
+    inventoryTotalRepository.takeExpired(storageCenterId, today);
+    int removed = itemRepository.deleteExpired(storageCenterId, today);
+    inventoryTotalRepository.refreshExpired(storageCenterId, today);
+    return removed;
+  }
+
+  /**
+   * Recomputes the inventory totals of a storage center from its items, reconciling any
+   * drift such as totals of items stocked before the totals were kept. The center's items
+   * are read but not loaded, with one INSERT ... SELECT grouped by type.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the number of item types the center stocks
+   */
+  @Transactional
+  public int rebuildTotals(int storageCenterId) {
+    inventoryTotalRepository.deleteByStorageCenter(storageCenterId);
+    return inventoryTotalRepository.insertFromItems(storageCenterId);
+  }
+
+  /**
+   * Deletes the inventory totals of a storage center, such as when the center is deleted.
+   *
+   * @param storageCenterId the database ID of the storage center
+   */
+  @Transactional
+  public void deleteTotals(int storageCenterId) {
+    inventoryTotalRepository.deleteByStorageCenter(storageCenterId);
+  }
+
+  /**
+   * A change to the inventory total of one item type.
+   */
+  private static final class TotalChange {
+    private long quantity;
+    private int skus;
+    private LocalDate nextExpiration;
+
+    private void added(LocalDate expirationDate) {
+      skus++;
+      if (expirationDate != null
+          && (nextExpiration == null || expirationDate.isBefore(nextExpiration))) {
+        nextExpiration = expirationDate;
+      }
+    }
+  }
+
+  private static TotalChange change(Map<ItemId.ItemType, TotalChange> changes, ItemId itemId) {
+    return changes.computeIfAbsent(ItemId.ItemType.fromString(itemId.getType()),
+        type -> new TotalChange());
+  }
+
+  private void applyTotals(StorageCenter center, Map<ItemId.ItemType, TotalChange> changes) {
+    for (Map.Entry<ItemId.ItemType, TotalChange> entry : changes.entrySet()) {
+      applyTotal(new InventoryTotalId(center.getDatabaseId(), entry.getKey()), entry.getValue());
+    }
+  }
+
+  /**
+   * Applies a change to an inventory total with single UPDATE statements. A total that does
+   * not exist yet is created from the change; items stocked before it existed are only
+   * counted once the center's totals are rebuilt.
+   */
+  private void applyTotal(InventoryTotalId id, TotalChange change) {
+    int centerId = id.getStorageCenterId();
+    if (change.quantity >= 0 && change.skus >= 0) {
+      if (inventoryTotalRepository.addStock(centerId, id.getType(), change.quantity,
+          change.skus, change.nextExpiration) == 0) {
+        entityManager.persist(new InventoryTotal(id, change.quantity, change.skus,
+            change.nextExpiration));
+      }
+      return;
+    }
+    inventoryTotalRepository.takeStock(centerId, id.getType(), -change.quantity, -change.skus);
+    if (change.skus < 0) {
+      inventoryTotalRepository.refreshNextExpiration(centerId, id.getType());
+    }
+  }
+}
@@ -1,10 +1,8 @@
 package com.smartprogrammingbaddies.storagecenter;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.google.gson.JsonObject;
 import com.smartprogrammingbaddies.item.Item;
-import com.smartprogrammingbaddies.logger.Transaction;
-import com.smartprogrammingbaddies.organization.Organization;
+import com.smartprogrammingbaddies.utils.PooledIdGenerator;
 import com.smartprogrammingbaddies.utils.TimeSlot;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -12,17 +10,18 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 /**
  * The StorageCenter class is used to store and manage goods such
@@ -32,15 +31,15 @@ import java.util.Set;
 @Entity
 public class StorageCenter {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(generator = "storagecenter_seq")
+  @GenericGenerator(name = "storagecenter_seq", type = PooledIdGenerator.class,
+      parameters = @Parameter(name = "sequence_name", value = "StorageCenter_SEQ"))
   @Column(name = "storage_center_id")
   private int id;
   @Column(nullable = false)
   private String description;
   @Column(nullable = false)
   private String name;
-  @OneToOne(mappedBy = "storage", cascade = CascadeType.ALL, orphanRemoval = true)
-  private Organization organization;
   @ElementCollection
   @CollectionTable(name = "operation_hours", joinColumns = @JoinColumn(name = "storage_center_id"))
   @MapKeyColumn(name = "day_of_week")
@@ -48,8 +47,6 @@ public class StorageCenter {
   private Map<DayOfWeek, TimeSlot> operationHours = new EnumMap<>(DayOfWeek.class);
   @OneToMany(mappedBy = "storageCenter", cascade = CascadeType.ALL, orphanRemoval = true)
   private Set<Item> items;
-  @OneToMany(mappedBy = "storageCenter", cascade = CascadeType.ALL, orphanRemoval = true)
-  private Set<Transaction> transactions;
 
   /**
    * Constructs a new StorageCenter where donated items can be tracked.
@@ -148,24 +145,6 @@ public class StorageCenter {
     return description;
   }
 
-  /**
-   * gets the organization associated with the storage center.
-   *
-   * @return the organization associated with the storage center
-   */
-  public Organization getOrganization() {
-    return organization;
-  }
-
-  /**
-   * gets the organization associated with the storage center.
-   *
-   * @param organization the organization to associate this storage center with
-   */
-  public void setOrganization(Organization organization) {
-    this.organization = organization;
-  }
-
   /**
    * Sets the description of the storage center.
    *
@@ -203,31 +182,22 @@ public class StorageCenter {
   }
 
   /**
-   * get all expired Items in the storage center.
+   * get all expired Items in the storage center. This walks every item in memory; the
+   * endpoints query the expired items with ItemRepository instead.
    *
    * @return a set of all expired items in the storage center
    */
   public Set<Item> getExpiredItems() {
+    LocalDate today = LocalDate.now();
     Set<Item> expiredItems = new HashSet<>();
     for (Item item : items) {
-      if (item.isExpired()) {
+      if (item.isExpired(today)) {
         expiredItems.add(item);
       }
     }
     return expiredItems;
   }
 
-  /**
-   * Remove expired items from the storage.
-   */
-  public void removeExpiredItems() {
-    Set<Item> expiredItems = getExpiredItems();
-    for (Item item : expiredItems) {
-      transactions.add(new Transaction(this, item, item.getQuantity(), "Remove Expired Item"));
-      items.remove(item);
-    }
-  }
-
   /**
    * Prints all the items in the storage.
    *
@@ -242,32 +212,6 @@ public class StorageCenter {
     return result.toString();
   }
 
-  /**
-   * Gets the transactions that have occurred in the storage center.
-   *
-   * @return the transactions that have occurred in the storage center
-   */
-  public Set<Transaction> getTransactions() {
-    return transactions;
-  }
-
-  /**
-   * Sets the transactions that have occurred in the storage center.
-   *
-   * @param transactions the transactions that have occurred in the storage center
-   */
-  public void setTransactions(Set<Transaction> transactions) {
-    if (transactions == null) {
-      throw new IllegalArgumentException("Transactions must not be null.");
-    }
-
-    if (this.transactions != null) {
-      throw new IllegalArgumentException("Transactions have already been set.");
-    }
-
-    this.transactions = transactions;
-  }
-
   @JsonProperty("id")
   public int getId() {
     return id;
@@ -291,23 +235,4 @@ public class StorageCenter {
     });
     return result.toString();
   }
-
-  /**
-   * Converts storage center info into json format.
-   *
-   * @return a json string of the storage center
-   */
-  public JsonObject toJson() {
-    JsonObject json = new JsonObject();
-    json.addProperty("name", name);
-    json.addProperty("description", description);
-    JsonObject hours = new JsonObject();
-    operationHours.forEach((day, timeSlot) -> {
-      hours.add(day.toString(), timeSlot.toJson());
-    });
-
-    json.add("operationHours", hours);
-
-    return json;
-  }
 }
\ No newline at end of file
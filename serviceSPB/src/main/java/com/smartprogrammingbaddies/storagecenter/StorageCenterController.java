@@ -1,28 +1,47 @@
 package com.smartprogrammingbaddies.storagecenter;
 
-import com.google.gson.JsonObject;
-import com.smartprogrammingbaddies.item.Item;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartprogrammingbaddies.item.InventoryPage;
+import com.smartprogrammingbaddies.item.InventoryTotalRepository;
 import com.smartprogrammingbaddies.item.ItemId;
 import com.smartprogrammingbaddies.item.ItemRepository;
+import com.smartprogrammingbaddies.item.ItemSummary;
 import com.smartprogrammingbaddies.logger.Transaction;
-import com.smartprogrammingbaddies.logger.TransactionRepository;
+import com.smartprogrammingbaddies.logger.TransactionPage;
+import com.smartprogrammingbaddies.logger.TransactionPartitions;
+import com.smartprogrammingbaddies.logger.TransactionStats;
+import com.smartprogrammingbaddies.utils.DateParser;
+import com.smartprogrammingbaddies.utils.ErrorResponse;
 import com.smartprogrammingbaddies.utils.TimeSlot;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.text.ParseException;
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.Callable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The StorageCenterController API Class used to manage
@@ -30,12 +49,26 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public class StorageCenterController {
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final int EXPIRING_SOON_DAYS = 7;
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
   @Autowired
   StorageCenterRepository storageCenterRepository;
   @Autowired
+  InventoryService inventoryService;
+  @Autowired
+  ExpirationSweeper expirationSweeper;
+  @Autowired
   ItemRepository itemRepository;
   @Autowired
-  TransactionRepository transactionRepository;
+  InventoryTotalRepository inventoryTotalRepository;
+  @Autowired
+  TransactionPartitions transactionPartitions;
+  @Autowired
+  TransactionStats transactionStats;
+  @Autowired
+  ObjectMapper objectMapper;
 
   /**
    * Enrolls a storage center into the database.
@@ -54,9 +87,7 @@ public class StorageCenterController {
     try {
       StorageCenter storageCenter = new StorageCenter(name, description);
       StorageCenter savedStorageCenter = storageCenterRepository.save(storageCenter);
-      JsonObject json = new JsonObject();
-      json.addProperty("storageCenterId", savedStorageCenter.getDatabaseId());
-      return ResponseEntity.ok(json.toString());
+      return ResponseEntity.ok(Map.of("storageCenterId", savedStorageCenter.getDatabaseId()));
     } catch (Exception e) {
       return handleException(e);
     }
@@ -75,8 +106,9 @@ public class StorageCenterController {
   public ResponseEntity<?> getStorageCenterInfo(
         @RequestParam("storageCenterId") int storageCenterId) {
     try {
-      StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      return ResponseEntity.ok(center.toJson().toString());
+      StorageCenter center =
+          storageCenterRepository.findWithHoursById(storageCenterId).orElseThrow();
+      return ResponseEntity.ok(new CenterInfo(center));
 
     } catch (NoSuchElementException e) {
       return handleNotFoundException("Storage Center", storageCenterId);
@@ -100,6 +132,8 @@ public class StorageCenterController {
           @RequestParam("storageCenterId") int storageCenterId) {
     try {
       storageCenterRepository.findById(storageCenterId).orElseThrow();
+      inventoryService.deleteTotals(storageCenterId);
+      storageCenterRepository.unlinkOrganization(storageCenterId);
       storageCenterRepository.deleteById(storageCenterId);
       String message = "Storage Center with ID: " + storageCenterId + " was deleted successfully";
       return ResponseEntity.ok(message);
@@ -188,7 +222,8 @@ public class StorageCenterController {
         @RequestParam("open") String open,
         @RequestParam("close") String close) {
     try {
-      StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
+      StorageCenter center =
+          storageCenterRepository.findWithHoursById(storageCenterId).orElseThrow();
       TimeSlot hours = new TimeSlot(open, close);
       center.updateDayHours(hours, day);
       storageCenterRepository.save(center);
@@ -227,22 +262,12 @@ public class StorageCenterController {
         String expirationDate) {
     try {
       StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      ItemId itemId = new ItemId(type, name);
-      Optional<Item> item = itemRepository.findById(itemId);
-      if (item.isPresent()) {
-        Item foundItem = item.get();
-        foundItem.incrementQuantity(quantity);
-        itemRepository.save(foundItem);
-        Transaction transaction = new Transaction(center, foundItem, quantity, "Check In");
-        transactionRepository.save(transaction);
+      ItemId itemId = new ItemId(storageCenterId, type, name);
+      InventoryService.Outcome outcome = retryIfAdded(
+          () -> inventoryService.checkIn(center, itemId, quantity, expirationDate));
+      if (outcome == InventoryService.Outcome.UPDATED) {
         return ResponseEntity.ok("Item quantity updated successfully");
-
       }
-
-      Item newItem = new Item(itemId, quantity, center, expirationDate);
-      itemRepository.save(newItem);
-      Transaction transaction = new Transaction(center, newItem, quantity, "Check In");
-      transactionRepository.save(transaction);
       return ResponseEntity.ok("Item added to storage center successfully");
 
     } catch (NoSuchElementException e) {
@@ -252,6 +277,47 @@ public class StorageCenterController {
     }
   }
 
+  /**
+   * Runs a check-in once more if it lost a race with a concurrent check-in that added the
+   * same new item, or the same new inventory total, first. The losing transaction fails on
+   * the duplicate key and is rolled back, and the second run updates the rows the other
+   * request added.
+   */
+  private <T> T retryIfAdded(Callable<T> checkIn) throws Exception {
+    try {
+      return checkIn.call();
+    } catch (DataIntegrityViolationException e) {
+      return checkIn.call();
+    }
+  }
+
+  /**
+  * Adds a batch of items to the storage center, such as a truck delivery. Each line
+  * is applied or rejected on its own, and the result of every line is returned.
+  *
+  * @param storageCenterId A {@code String} representing the storage center's ID.
+  * @param lines A JSON array of lines with the type, name, quantity and
+  *     expiration date (in the yyyy-MM-dd format) of each item received.
+  * @return A {@code ResponseEntity} The result of each line and a HTTP 200 response or,
+  *     HTTP 500 reponse if an error occurred or,
+  *     HTTP 400 response if the batch is empty or,
+  *     HTTP 404 response if the storage center ID is not found.
+  */
+  @PatchMapping("/checkInItems/batch")
+  public ResponseEntity<?> checkInItemsBatch(
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestBody List<CheckInLine> lines) {
+    try {
+      StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
+      return ResponseEntity.ok(retryIfAdded(() -> inventoryService.checkInBatch(center, lines)));
+
+    } catch (NoSuchElementException e) {
+      return handleNotFoundException("Storage Center", storageCenterId);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
   /**
   * Removes an item from the storage center.
   *
@@ -272,27 +338,13 @@ public class StorageCenterController {
         @RequestParam("quantity") int quantity) {
     try {
       StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      ItemId itemId = new ItemId(type, name);
-      Optional<Item> searchedItem = itemRepository.findById(itemId);
-      if (searchedItem.isEmpty()) {
+      ItemId itemId = new ItemId(storageCenterId, type, name);
+      InventoryService.Outcome outcome = inventoryService.checkOut(center, itemId, quantity);
+      if (outcome == InventoryService.Outcome.NOT_FOUND) {
         String message = "The item was not found in the storage center";
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
       }
 
-      Item item = searchedItem.get();
-      item.decrementQuantity(quantity);
-      Transaction transaction;
-      if (item.getQuantity() == 0) {
-        itemRepository.delete(item);
-        String action = "Removed from inventory";
-        transaction = new Transaction(center, item, quantity, action);
-      } else {
-        itemRepository.save(item);
-        String action = "Check Out";
-        transaction = new Transaction(center, item, quantity, action);
-      }
-
-      transactionRepository.save(transaction);
       String message = "Items removed from storage center successfully";
       return ResponseEntity.ok(message);
 
@@ -303,6 +355,36 @@ public class StorageCenterController {
     }
   }
 
+  /**
+  * Removes a batch of items from the storage center, such as one client's basket.
+  * The batch is all or nothing: if any line cannot be filled, no item is removed.
+  *
+  * @param storageCenterId A {@code String} representing the storage center's ID.
+  * @param lines A JSON array of lines with the type, name and quantity of each item.
+  * @return A {@code ResponseEntity} The result of each line and a HTTP 200 response or,
+  *     HTTP 409 response with the lines that are short or not stocked or,
+  *     HTTP 400 response with the invalid lines, or if the batch is empty or,
+  *     HTTP 404 response if the storage center ID is not found or,
+  *     HTTP 500 reponse if an error occurred.
+  */
+  @PatchMapping("/checkOutItems/batch")
+  public ResponseEntity<?> checkOutItemsBatch(
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestBody List<CheckOutLine> lines) {
+    try {
+      StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
+      return ResponseEntity.ok(inventoryService.checkOutBatch(center, lines));
+
+    } catch (BatchRejectedException e) {
+      HttpStatus status = e.isStockShortage() ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+      return ResponseEntity.status(status).body(e.getFailedLines());
+    } catch (NoSuchElementException e) {
+      return handleNotFoundException("Storage Center", storageCenterId);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
   /**
    * List expired items in the storage center.
    *
@@ -316,8 +398,8 @@ public class StorageCenterController {
   public ResponseEntity<?> listExpiredItems(
         @RequestParam("storageCenterId") int storageCenterId) {
     try {
-      StorageCenter storage = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      return ResponseEntity.ok(storage.getExpiredItems());
+      storageCenterRepository.findById(storageCenterId).orElseThrow();
+      return ResponseEntity.ok(itemRepository.findExpired(storageCenterId, LocalDate.now()));
 
     } catch (NoSuchElementException e) {
       return handleNotFoundException("Storage Center", storageCenterId);
@@ -327,11 +409,12 @@ public class StorageCenterController {
   }
 
   /**
-   * Removes expired items from inventory.
+   * Removes expired items from inventory. The response is a message with the number of
+   * items removed, such as "3 expired items removed"; it used to be the center's items.
    *
    * @param storageCenterId A {@code String} representing the storage center's ID.
-   * @return A {@code ResponseEntity} A message if the expired items were removed
-   *     successfully and a HTTP 200 response or,
+   * @return A {@code ResponseEntity} A message with the number of expired items removed
+   *     and a HTTP 200 response or,
    *     HTTP 500 reponse if an error occurred or,
    *     HTTP 404 response if the storage center ID is not found.
    */
@@ -340,10 +423,8 @@ public class StorageCenterController {
         @RequestParam("storageCenterId") int storageCenterId) {
     try {
       StorageCenter center = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      Set<Item> expiredItems = center.getItems();
-      center.removeExpiredItems();
-      storageCenterRepository.save(center);
-      return ResponseEntity.ok(expiredItems);
+      int removed = inventoryService.removeExpired(center.getDatabaseId());
+      return ResponseEntity.ok(removed + " expired items removed");
 
     } catch (NoSuchElementException e) {
       return handleNotFoundException("Storage Center", storageCenterId);
@@ -353,20 +434,130 @@ public class StorageCenterController {
   }
 
   /**
-   * Get the storage center's inventory.
+   * Gets the metrics of the last scheduled sweep of expired items across all storage centers.
+   *
+   * @return A {@code ResponseEntity} The centers scanned, items purged, failures and
+   *     duration of the last sweep and a HTTP 200 response.
+   */
+  @GetMapping("/expirationSweepStats")
+  public ResponseEntity<?> expirationSweepStats() {
+    return ResponseEntity.ok(expirationSweeper.getLastRun());
+  }
+
+  /**
+   * Gets the inventory totals of the storage center, one per item type it stocks: the total
+   * quantity, the number of distinct items and the earliest expiration date.
    *
    * @param storageCenterId A {@code String} representing the storage center's ID.
-   * @return A {@code ResponseEntity} The list of inventory if the storage center was successfully
-   *     found and a HTTP 200 response or,
+   * @return A {@code ResponseEntity} The totals ordered by type if the storage center was
+   *     successfully found and a HTTP 200 response or,
    *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 404 response if the storage center ID is not found.
+   */
+  @GetMapping("/getInventoryTotals")
+  public ResponseEntity<?> getInventoryTotals(
+        @RequestParam("storageCenterId") int storageCenterId) {
+    try {
+      if (!storageCenterRepository.existsById(storageCenterId)) {
+        throw new NoSuchElementException();
+      }
+      return ResponseEntity.ok(inventoryTotalRepository.findByStorageCenter(storageCenterId));
+
+    } catch (NoSuchElementException e) {
+      return handleNotFoundException("Storage Center", storageCenterId);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
+  /**
+   * Recomputes the inventory totals from the items in stock, for one storage center or,
+   * without an ID, for every storage center one at a time.
+   *
+   * @param storageCenterId A {@code String} representing the storage center's ID, or none
+   *     for all storage centers.
+   * @return A {@code ResponseEntity} The number of storage centers rebuilt and a HTTP 200
+   *     response or,
+   *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 404 response if the storage center ID is not found.
+   */
+  @PostMapping("/rebuildInventoryTotals")
+  public ResponseEntity<?> rebuildInventoryTotals(
+        @RequestParam(value = "storageCenterId", required = false) Integer storageCenterId) {
+    try {
+      if (storageCenterId != null) {
+        if (!storageCenterRepository.existsById(storageCenterId)) {
+          throw new NoSuchElementException();
+        }
+        inventoryService.rebuildTotals(storageCenterId);
+        return ResponseEntity.ok(Map.of("centersRebuilt", 1));
+      }
+
+      int rebuilt = 0;
+      int afterId = 0;
+      List<Integer> ids;
+      do {
+        ids = storageCenterRepository.findIdsAfter(afterId, PageRequest.of(0, MAX_PAGE_SIZE));
+        for (int id : ids) {
+          inventoryService.rebuildTotals(id);
+          afterId = id;
+        }
+        rebuilt += ids.size();
+      } while (ids.size() == MAX_PAGE_SIZE);
+      return ResponseEntity.ok(Map.of("centersRebuilt", rebuilt));
+
+    } catch (NoSuchElementException e) {
+      return handleNotFoundException("Storage Center", storageCenterId);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
+  /**
+   * Get a page of the storage center's inventory, ordered by type and then name.
+   *
+   * @param storageCenterId A {@code String} representing the storage center's ID.
+   * @param page A {@code int} representing the zero-based page number.
+   * @param size A {@code int} representing the page size, between 1 and 1000.
+   * @param type A {@code String} representing the item type to filter by, or none for all.
+   * @param namePrefix A {@code String} the item names must start with, or none for all.
+   * @return A {@code ResponseEntity} The page of inventory if the storage center was
+   *     successfully found and a HTTP 200 response or,
+   *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 400 response if a parameter is incorrectly formatted or,
    *     404 response if the storage center ID is not found.
    */
   @GetMapping("/listInventory")
   public ResponseEntity<?> listInventory(
-        @RequestParam("storageCenterId") int storageCenterId) {
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @RequestParam(value = "size", defaultValue = "100") int size,
+        @RequestParam(value = "type", required = false) String type,
+        @RequestParam(value = "namePrefix", required = false) String namePrefix) {
     try {
-      StorageCenter storage = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      return ResponseEntity.ok(storage.getItems());
+      storageCenterRepository.findById(storageCenterId).orElseThrow();
+      if (page < 0) {
+        throw new IllegalArgumentException("Page must not be negative.");
+      }
+      if (size < 1 || size > MAX_PAGE_SIZE) {
+        throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE + ".");
+      }
+      ItemId.ItemType itemType = null;
+      if (type != null) {
+        itemType = ItemId.ItemType.fromString(type);
+        if (itemType == null) {
+          throw new IllegalArgumentException("Type must be a listed item type.");
+        }
+      }
+      String namePattern = "%";
+      if (namePrefix != null) {
+        namePattern = namePrefix.replaceAll("([\\\\%_])", "\\\\$1") + "%";
+      }
+
+      Slice<ItemSummary> items = itemRepository.findInventory(storageCenterId, itemType,
+          namePattern, PageRequest.of(page, size));
+      return ResponseEntity.ok(new InventoryPage(items.getContent(), page, size,
+          items.hasNext()));
 
     } catch (NoSuchElementException e) {
       return handleNotFoundException("Storage Center", storageCenterId);
@@ -376,20 +567,142 @@ public class StorageCenterController {
   }
 
   /**
-   * Get the storage center's transactions.
+   * Get a page of the storage center's transactions in ID order. IDs are handed out in
+   * blocks per instance, so this is not time order across instances. Pages are fetched by
+   * passing the {@code nextAfterId} of one page as the {@code afterId} of the next. The
+   * dates are whole days in UTC.
    *
    * @param storageCenterId A {@code String} representing the storage center's ID.
-   * @return A {@code ResponseEntity} The list of transactions if the storage center was
+   * @param from A {@code String} representing the earliest date to include in the
+   *     yyyy-MM-dd format, or none for no lower bound.
+   * @param to A {@code String} representing the latest date to include in the
+   *     yyyy-MM-dd format, or none for no upper bound.
+   * @param action A {@code String} representing the action to filter by, or none for all.
+   * @param afterId A {@code int} representing the ID of the last transaction already seen.
+   * @param size A {@code int} representing the page size, between 1 and 1000.
+   * @param format A {@code String} that must be json; ndjson is served by the export.
+   * @return A {@code ResponseEntity} The page of transactions if the storage center was
    *     successfully found and a HTTP 200 response or,
    *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 400 response if a parameter is incorrectly formatted or,
    *     404 response if the storage center ID is not found.
    */
   @GetMapping("/listTransactions")
   public ResponseEntity<?> listTransactions(
-        @RequestParam("storageCenterId") int storageCenterId) {
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to,
+        @RequestParam(value = "action", required = false) String action,
+        @RequestParam(value = "afterId", defaultValue = "0") int afterId,
+        @RequestParam(value = "size", defaultValue = "100") int size,
+        @RequestParam(value = "format", defaultValue = "json") String format) {
+    try {
+      storageCenterRepository.findById(storageCenterId).orElseThrow();
+      if (!format.equals("json")) {
+        throw new IllegalArgumentException("Format must be json or ndjson.");
+      }
+      if (size < 1 || size > MAX_PAGE_SIZE) {
+        throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE + ".");
+      }
+      List<Transaction> page = transactionPartitions.findPage(storageCenterId,
+          parseFromDate(from), parseToDate(to), action, afterId, size);
+      return ResponseEntity.ok(new TransactionPage(page, size));
+
+    } catch (NoSuchElementException e) {
+      return handleNotFoundException("Storage Center", storageCenterId);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
+  /**
+   * Export the storage center's transactions as newline-delimited JSON, one transaction
+   * per line, in ID order. The transactions are read a page at a time and written
+   * straight to the response, so an export of any length uses a bounded amount of memory.
+   * The dates are whole days in UTC.
+   *
+   * @param storageCenterId A {@code String} representing the storage center's ID.
+   * @param from A {@code String} representing the earliest date to include in the
+   *     yyyy-MM-dd format, or none for no lower bound.
+   * @param to A {@code String} representing the latest date to include in the
+   *     yyyy-MM-dd format, or none for no upper bound.
+   * @param action A {@code String} representing the action to filter by, or none for all.
+   * @param afterId A {@code int} representing the ID of the last transaction already seen.
+   * @return A {@code ResponseEntity} The streamed transactions if the storage center was
+   *     successfully found and a HTTP 200 response or,
+   *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 400 response if a parameter is incorrectly formatted or,
+   *     404 response if the storage center ID is not found.
+   */
+  @GetMapping(value = "/listTransactions", params = "format=ndjson")
+  public ResponseEntity<StreamingResponseBody> exportTransactions(
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestParam(value = "from", required = false) String from,
+        @RequestParam(value = "to", required = false) String to,
+        @RequestParam(value = "action", required = false) String action,
+        @RequestParam(value = "afterId", defaultValue = "0") int afterId) {
+    try {
+      storageCenterRepository.findById(storageCenterId).orElseThrow();
+      Instant fromTime = parseFromDate(from);
+      Instant toTime = parseToDate(to);
+      StreamingResponseBody body = out -> {
+        JsonGenerator generator = createGenerator(out);
+        List<Transaction> page;
+        int cursor = afterId;
+        do {
+          page = transactionPartitions.findPage(storageCenterId, fromTime, toTime, action,
+              cursor, MAX_PAGE_SIZE);
+          for (Transaction transaction : page) {
+            generator.writeObject(transaction);
+            generator.writeRaw('\n');
+            cursor = transaction.getDatabaseId();
+          }
+          generator.flush();
+        } while (page.size() == MAX_PAGE_SIZE);
+      };
+      return ResponseEntity.ok().contentType(NDJSON).body(body);
+
+    } catch (NoSuchElementException e) {
+      return streamed(handleNotFoundException("Storage Center", storageCenterId));
+    } catch (Exception e) {
+      return streamed(handleException(e));
+    }
+  }
+
+  /**
+   * Get the quantities checked in, checked out, removed as expired and removed from the
+   * inventory of the storage center per day or week, by item type. Days start at midnight
+   * UTC and weeks on Monday; the first and last periods are the ones containing the given
+   * dates.
+   *
+   * @param storageCenterId A {@code String} representing the storage center's ID.
+   * @param from A {@code String} representing the first date to report in the yyyy-MM-dd
+   *     format.
+   * @param to A {@code String} representing the last date to report in the yyyy-MM-dd
+   *     format.
+   * @param granularity A {@code String} representing the length of the periods, day or
+   *     week, at most 366 of them.
+   * @return A {@code ResponseEntity} The flows of each period if the storage center was
+   *     successfully found and a HTTP 200 response or,
+   *     HTTP 500 reponse if an error occurred or,
+   *     HTTP 400 response if a parameter is incorrectly formatted or,
+   *     404 response if the storage center ID is not found.
+   */
+  @GetMapping("/transactionStats")
+  public ResponseEntity<?> transactionStats(
+        @RequestParam("storageCenterId") int storageCenterId,
+        @RequestParam("from") String from,
+        @RequestParam("to") String to,
+        @RequestParam(value = "granularity", defaultValue = "day") String granularity) {
     try {
-      StorageCenter storage = storageCenterRepository.findById(storageCenterId).orElseThrow();
-      return ResponseEntity.ok(storage.getTransactions());
+      if (!storageCenterRepository.existsById(storageCenterId)) {
+        throw new NoSuchElementException();
+      }
+      TransactionStats.Granularity periods = TransactionStats.Granularity.parse(granularity);
+      return ResponseEntity.ok(Map.of("storageCenterId", storageCenterId,
+          "granularity", periods.name().toLowerCase(Locale.ROOT),
+          "periods", transactionStats.find(storageCenterId, DateParser.stringToNumericDate(from),
+              DateParser.stringToNumericDate(to), periods)));
 
     } catch (NoSuchElementException e) {
       return handleNotFoundException("Storage Center", storageCenterId);
@@ -398,41 +711,92 @@ public class StorageCenterController {
     }
   }
 
+  private static Instant parseFromDate(String from) {
+    if (from == null) {
+      return null;
+    }
+    return DateParser.stringToNumericDate(from).atStartOfDay(TransactionPartitions.ZONE)
+        .toInstant();
+  }
+
+  private static Instant parseToDate(String to) {
+    if (to == null) {
+      return null;
+    }
+    return DateParser.stringToNumericDate(to).plusDays(1)
+        .atStartOfDay(TransactionPartitions.ZONE).toInstant();
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamed(ResponseEntity<?> response) {
+    Object body = response.getBody();
+    return ResponseEntity.status(response.getStatusCode())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(out -> {
+          JsonGenerator generator = createGenerator(out);
+          generator.writeObject(body);
+          generator.flush();
+        });
+  }
+
+  /**
+   * Creates a generator writing straight into a response stream with the shared mapper's
+   * settings. The stream is left open for Spring to complete the response, and root values
+   * get no separator, since the NDJSON export ends each one with its own newline.
+   */
+  private JsonGenerator createGenerator(OutputStream out) throws IOException {
+    return objectMapper.createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .setRootValueSeparator(null);
+  }
+
   private ResponseEntity<?> handleException(Exception e) {
-    JsonObject json = new JsonObject();
-    json.addProperty("error", e.getMessage());
+    ErrorResponse error = new ErrorResponse(e.getMessage());
     boolean isBadRequest = e instanceof IllegalArgumentException
         || e instanceof NumberFormatException
         || e instanceof ParseException
         || e instanceof DateTimeParseException
         || e instanceof DateTimeException;
     if (isBadRequest) {
-      json.addProperty("error", e.getMessage());
-      return ResponseEntity.badRequest().body(json.toString());
+      return ResponseEntity.badRequest().body(error);
     }
 
-    return new ResponseEntity<>(json.toString(), HttpStatus.INTERNAL_SERVER_ERROR);
+    return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
   /**
-   * Lists all storage centers in the database.
+   * Lists a page of the storage centers in the database, each with today's operating hours,
+   * its item count, total quantity and the number of items expiring within a week.
    *
-   * @return A {@code ResponseEntity} The list of all storage centers and a HTTP 200 response or,
+   * @param page A {@code int} representing the zero-based page number.
+   * @param size A {@code int} representing the page size, between 1 and 1000.
+   * @return A {@code ResponseEntity} The page of storage centers and a HTTP 200 response or,
+   *     HTTP 400 response if a parameter is incorrectly formatted or,
    *     HTTP 500 response if an error occurred.
    */
   @GetMapping("/listAllCenters")
-  public ResponseEntity<?> listAllStorageCenters() {
+  public ResponseEntity<?> listAllStorageCenters(
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @RequestParam(value = "size", defaultValue = "100") int size) {
     try {
-      Iterable<StorageCenter> storageCenters = storageCenterRepository.findAll();
-      return ResponseEntity.ok(storageCenters);
+      if (page < 0) {
+        throw new IllegalArgumentException("Page must not be negative.");
+      }
+      if (size < 1 || size > MAX_PAGE_SIZE) {
+        throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE + ".");
+      }
+      LocalDate today = LocalDate.now();
+      Slice<CenterSummary> centers = storageCenterRepository.findSummaries(today.getDayOfWeek(),
+          today, today.plusDays(EXPIRING_SOON_DAYS), PageRequest.of(page, size));
+      return ResponseEntity.ok(new CenterPage(centers.getContent(), page, size,
+          centers.hasNext()));
     } catch (Exception e) {
       return handleException(e);
     }
   }
 
   private ResponseEntity<?> handleNotFoundException(String entityName, int entityId) {
-    JsonObject message = new JsonObject();
-    message.addProperty("error", entityName + " with ID: " + entityId + " was not found");
-    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message.toString());
+    ErrorResponse error =
+        new ErrorResponse(entityName + " with ID: " + entityId + " was not found");
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
   }
 }
\ No newline at end of file
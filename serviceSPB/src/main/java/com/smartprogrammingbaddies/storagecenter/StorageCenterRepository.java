@@ -1,6 +1,17 @@
 package com.smartprogrammingbaddies.storagecenter;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
 * The StorageCenterRepository interface is used to store and manage goods such
@@ -8,4 +19,59 @@ import org.springframework.data.repository.CrudRepository;
 * storage.
 */
 public interface StorageCenterRepository extends CrudRepository<StorageCenter, Integer> {
+  /**
+   * Finds the next chunk of storage center IDs after a given ID, in ID order, without
+   * loading the storage centers.
+   *
+   * @param afterId the last ID already seen, or 0 to start at the beginning
+   * @param page the chunk size, as a pageable for the first page
+   * @return the IDs of the chunk
+   */
+  @Query("SELECT c.id FROM StorageCenter c WHERE c.id > :afterId ORDER BY c.id")
+  List<Integer> findIdsAfter(@Param("afterId") int afterId, Pageable page);
+
+  /**
+   * Finds a storage center with its operating hours in one query.
+   *
+   * @param id the database ID of the storage center
+   * @return the storage center, or empty if it does not exist
+   */
+  @EntityGraph(attributePaths = "operationHours")
+  Optional<StorageCenter> findWithHoursById(int id);
+
+  /**
+   * Finds a page of storage center summaries, in ID order. Today's hours and the item
+   * totals are joined and aggregated in one grouped query, so no storage center, item or
+   * hours are loaded.
+   *
+   * @param day the day of the week whose hours to include
+   * @param today the first date counted as expiring soon
+   * @param cutoff the last date counted as expiring soon
+   * @param page the page to find
+   * @return the summaries of the page
+   */
+  @Query("SELECT new com.smartprogrammingbaddies.storagecenter.CenterSummary("
+      + "c.id, c.name, c.description, h.startTime, h.endTime, COUNT(i.itemType.name), "
+      + "COALESCE(SUM(i.quantity), 0), "
+      + "COALESCE(SUM(CASE WHEN i.expirationDate BETWEEN :today AND :cutoff THEN 1 ELSE 0 END), "
+      + "0)) "
+      + "FROM StorageCenter c LEFT JOIN c.operationHours h ON KEY(h) = :day "
+      + "LEFT JOIN c.items i "
+      + "GROUP BY c.id, c.name, c.description, h.startTime, h.endTime "
+      + "ORDER BY c.id")
+  Slice<CenterSummary> findSummaries(@Param("day") DayOfWeek day,
+      @Param("today") LocalDate today, @Param("cutoff") LocalDate cutoff, Pageable page);
+
+  /**
+   * Unlinks the organization linked to a storage center, such as before the center is
+   * deleted. The link is kept only on the organization's side, so a center loads without
+   * its organization.
+   *
+   * @param storageCenterId the database ID of the storage center
+   * @return the number of organizations unlinked
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE Organization o SET o.storage = NULL WHERE o.storage.id = :storageCenterId")
+  int unlinkOrganization(@Param("storageCenterId") int storageCenterId);
 }
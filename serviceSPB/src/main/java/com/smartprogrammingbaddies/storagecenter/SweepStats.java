@@ -0,0 +1,77 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import java.time.LocalDateTime;
+
+/**
+ * The metrics of one run of the expiration sweeper.
+ */
+public class SweepStats {
+  private final LocalDateTime startedAt;
+  private final int centersScanned;
+  private final long itemsPurged;
+  private final int failures;
+  private final long durationMillis;
+
+  /**
+   * Constructs the metrics of a sweep.
+   *
+   * @param startedAt when the sweep started, or null if no sweep has run
+   * @param centersScanned the number of storage centers swept
+   * @param itemsPurged the number of expired items removed
+   * @param failures the number of storage centers whose sweep failed
+   * @param durationMillis how long the sweep took, in milliseconds
+   */
+  public SweepStats(LocalDateTime startedAt, int centersScanned, long itemsPurged,
+      int failures, long durationMillis) {
+    this.startedAt = startedAt;
+    this.centersScanned = centersScanned;
+    this.itemsPurged = itemsPurged;
+    this.failures = failures;
+    this.durationMillis = durationMillis;
+  }
+
+  /**
+   * Gets when the sweep started.
+   *
+   * @return when the sweep started, or null if no sweep has run
+   */
+  public LocalDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  /**
+   * Gets the number of storage centers swept.
+   *
+   * @return the number of storage centers swept
+   */
+  public int getCentersScanned() {
+    return centersScanned;
+  }
+
+  /**
+   * Gets the number of expired items removed.
+   *
+   * @return the number of expired items removed
+   */
+  public long getItemsPurged() {
+    return itemsPurged;
+  }
+
+  /**
+   * Gets the number of storage centers whose sweep failed.
+   *
+   * @return the number of storage centers whose sweep failed
+   */
+  public int getFailures() {
+    return failures;
+  }
+
+  /**
+   * Gets how long the sweep took.
+   *
+   * @return how long the sweep took, in milliseconds
+   */
+  public long getDurationMillis() {
+    return durationMillis;
+  }
+}
@@ -1,6 +1,5 @@
 package com.smartprogrammingbaddies.utils;
 
-import com.google.gson.JsonObject;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -33,16 +32,4 @@ public abstract class DateParser {
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     return formatter.format(date);
   }
-
-  /**
-   * toJson method is used to convert a Date object to a JSON object.
-   *
-   * @param date the Date object to convert
-   * @return a JSON ojbect that corresponds to the Date object
-   */
-  public static JsonObject toJson(LocalDate date) {
-    JsonObject json = new JsonObject();
-    json.addProperty("date", numericDateToString(date));
-    return json;
-  }
 }
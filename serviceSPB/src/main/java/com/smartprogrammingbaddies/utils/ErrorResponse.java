@@ -0,0 +1,26 @@
+package com.smartprogrammingbaddies.utils;
+
+/**
+ * The body of an error response, serialized as {"error": message}.
+ */
+public class ErrorResponse {
+  private final String error;
+
+  /**
+   * Constructs an ErrorResponse with the given message.
+   *
+   * @param error the error message, which may be null
+   */
+  public ErrorResponse(String error) {
+    this.error = error;
+  }
+
+  /**
+   * Gets the error message.
+   *
+   * @return the error message
+   */
+  public String getError() {
+    return error;
+  }
+}
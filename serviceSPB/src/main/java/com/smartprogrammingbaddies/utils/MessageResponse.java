@@ -0,0 +1,27 @@
+package com.smartprogrammingbaddies.utils;
+
+/**
+ * The body of a response that only reports the outcome of a request, serialized as
+ * {"message": message}.
+ */
+public class MessageResponse {
+  private final String message;
+
+  /**
+   * Constructs a MessageResponse with the given message.
+   *
+   * @param message the message describing the outcome
+   */
+  public MessageResponse(String message) {
+    this.message = message;
+  }
+
+  /**
+   * Gets the message.
+   *
+   * @return the message describing the outcome
+   */
+  public String getMessage() {
+    return message;
+  }
+}
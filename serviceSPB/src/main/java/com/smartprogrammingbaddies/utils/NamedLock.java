@@ -0,0 +1,62 @@
+package com.smartprogrammingbaddies.utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Takes and releases MySQL named locks, which let the instances of the app agree that only
+ * one of them runs a job at a time. A named lock belongs to the connection that took it,
+ * so it is released on the same connection, or when that connection closes.
+ */
+public final class NamedLock {
+  private NamedLock() {
+    // Static helpers only
+  }
+
+  /**
+   * Takes a named lock, waiting for another connection to release it.
+   *
+   * @param connection the MySQL connection that holds the lock
+   * @param name the name of the lock
+   * @param timeoutSeconds how long to wait for the lock, or 0 not to wait
+   * @return whether the lock was taken
+   * @throws SQLException if the lock could not be requested
+   */
+  public static boolean acquire(Connection connection, String name, int timeoutSeconds)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+      statement.setString(1, name);
+      statement.setInt(2, timeoutSeconds);
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next() && result.getInt(1) == 1;
+      }
+    }
+  }
+
+  /**
+   * Releases a named lock taken on the same connection.
+   *
+   * @param connection the MySQL connection that holds the lock
+   * @param name the name of the lock
+   * @throws SQLException if the lock could not be released
+   */
+  public static void release(Connection connection, String name) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("DO RELEASE_LOCK(?)")) {
+      statement.setString(1, name);
+      statement.execute();
+    }
+  }
+
+  /**
+   * Checks whether a connection is to MySQL, the only database with named locks.
+   *
+   * @param connection the connection to check
+   * @return whether the connection is to MySQL
+   * @throws SQLException if the database could not be identified
+   */
+  public static boolean isSupported(Connection connection) throws SQLException {
+    return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+  }
+}
@@ -0,0 +1,59 @@
+package com.smartprogrammingbaddies.utils;
+
+import java.util.Properties;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Generates IDs from a database sequence, or a one-row table where the database has no
+ * sequences, with the pooled-lo optimizer: each round trip to the sequence reserves a
+ * block of IDs that are then handed out in memory, so inserts need no extra statement
+ * and can be batched. The block size of a sequence is read from the JPA property
+ * {@code id.allocation-size.<sequence name>}, and defaults to 50.
+ */
+public class PooledIdGenerator extends SequenceStyleGenerator {
+  /** The prefix of the properties setting the allocation size of each sequence. */
+  public static final String ALLOCATION_SIZE_PREFIX = "id.allocation-size.";
+  /** The allocation size of sequences without a property. */
+  public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+  /**
+   * Configures the generator with the pooled-lo optimizer and its sequence's allocation size.
+   *
+   * @param type the type of the IDs
+   * @param parameters the parameters of the generator, including the sequence name
+   * @param serviceRegistry the registry the JPA properties are read from
+   * @throws IllegalArgumentException if the allocation size is not a positive number
+   */
+  @Override
+  public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+    String sequenceName = parameters.getProperty(SEQUENCE_PARAM);
+    Object setting = serviceRegistry.getService(ConfigurationService.class).getSettings()
+        .get(ALLOCATION_SIZE_PREFIX + sequenceName);
+    int allocationSize = allocationSize(setting);
+    parameters.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+    parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+    super.configure(type, parameters, serviceRegistry);
+  }
+
+  /**
+   * Parses an allocation size setting.
+   *
+   * @param setting the value of the property, or null if it is not set
+   * @return the allocation size
+   * @throws IllegalArgumentException if the setting is not a positive number
+   */
+  static int allocationSize(Object setting) {
+    if (setting == null) {
+      return DEFAULT_ALLOCATION_SIZE;
+    }
+    int allocationSize = Integer.parseInt(setting.toString().trim());
+    if (allocationSize <= 0) {
+      throw new IllegalArgumentException("Allocation size must be greater than 0.");
+    }
+    return allocationSize;
+  }
+}
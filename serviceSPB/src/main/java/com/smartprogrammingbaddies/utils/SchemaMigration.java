@@ -0,0 +1,92 @@
+package com.smartprogrammingbaddies.utils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.hibernate.Session;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a versioned MySQL migration script at startup, before the scheduled jobs and
+ * requests use its table, for a change ddl-auto=update cannot make. Each subclass checks
+ * whether its table still needs the script. The script runs under a named lock, and the
+ * check is made again once the lock is held, so only the first instance to start runs it.
+ * Other databases are always created by Hibernate with the current schema, so a table
+ * needing the script there is reported instead.
+ */
+public abstract class SchemaMigration {
+  private static final int LOCK_TIMEOUT_SECONDS = 600;
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final String table;
+  private final String script;
+  private final String lock;
+
+  /**
+   * Constructs a SchemaMigration running a script on a table.
+   *
+   * @param entityManager the entity manager whose connection the script runs on
+   * @param transactionManager the manager of the transaction the script runs in
+   * @param table the name of the table the script migrates
+   * @param script the classpath location of the MySQL migration script
+   * @param lock the name of the lock the script runs under
+   */
+  protected SchemaMigration(EntityManager entityManager,
+      PlatformTransactionManager transactionManager, String table, String script,
+      String lock) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.table = table;
+    this.script = script;
+    this.lock = lock;
+  }
+
+  /**
+   * Checks whether the table exists and still needs the script.
+   *
+   * @param connection the connection to check the table's metadata on
+   * @return whether the script needs to run
+   * @throws SQLException if the metadata could not be read
+   */
+  protected abstract boolean isPending(Connection connection) throws SQLException;
+
+  /**
+   * Migrates the table if it still needs the script.
+   *
+   * @return whether the table was migrated
+   * @throws IllegalStateException if the table needs the script on a database other than
+   *     MySQL, or another instance holds the migration lock for too long
+   */
+  @PostConstruct
+  public boolean migrate() {
+    return transactionTemplate.execute(status -> entityManager.unwrap(Session.class)
+        .doReturningWork(connection -> {
+          if (!isPending(connection)) {
+            return false;
+          }
+          if (!NamedLock.isSupported(connection)) {
+            throw new IllegalStateException("The " + table + " table needs " + script
+                + ", which only runs on MySQL, not "
+                + connection.getMetaData().getDatabaseProductName() + ".");
+          }
+          if (!NamedLock.acquire(connection, lock, LOCK_TIMEOUT_SECONDS)) {
+            throw new IllegalStateException("Timed out waiting for another instance to "
+                + "migrate the " + table + " table.");
+          }
+          try {
+            if (!isPending(connection)) {
+              return false;
+            }
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(script));
+            return true;
+          } finally {
+            NamedLock.release(connection, lock);
+          }
+        }));
+  }
+}
@@ -1,6 +1,5 @@
 package com.smartprogrammingbaddies.utils;
 
-import com.google.gson.JsonObject;
 import jakarta.persistence.Embeddable;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
@@ -83,18 +82,6 @@ public class TimeSlot {
     return startTime + " - " + endTime;
   }
 
-  /**
-   * toJson method for the TimeSlot object.
-   *
-   * @return a JSON representation of the TimeSlot object
-   */
-  public JsonObject toJson() {
-    JsonObject json = new JsonObject();
-    json.addProperty("start", startTime.toString());
-    json.addProperty("end", endTime.toString());
-    return json;
-  }
-
   /**
    * Check if two TimeSlot objects are equal.
    *
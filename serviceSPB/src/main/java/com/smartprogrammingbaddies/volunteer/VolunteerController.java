@@ -1,6 +1,6 @@
 package com.smartprogrammingbaddies.volunteer;
 
-import com.smartprogrammingbaddies.auth.AuthController;
+import com.smartprogrammingbaddies.auth.ApiKeyPrincipal;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,27 +19,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class VolunteerController {
 
-  @Autowired
-  private AuthController auth;
-
   @Autowired
   VolunteerRepository volunteerRepository;
 
   /**
     * Enrolls a volunteer into the database.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param name A {@code String} representing the volunteer's name.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully enrolled
   and a HTTP 200 response or, HTTP 404 response if API Key was not found.
     */
   @PatchMapping("/enrollVolunteer")
-  public ResponseEntity<?> enrollVolunteer(@RequestParam("apiKey") String apiKey,
-                                            @RequestParam("name") String name,
-                                            @RequestParam("role") String role,
-                                            @RequestBody Map<String, String> schedule) {
+  public ResponseEntity<?> enrollVolunteer(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("name") String name,
+      @RequestParam("role") String role,
+      @RequestBody Map<String, String> schedule) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
@@ -57,16 +56,17 @@ public class VolunteerController {
   /**
     * Remove a volunteer from the database.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param volunteerId A {@code String} representing the volunteer ID.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully removed
   and a HTTP 200 response or, HTTP 404 response if API Key was not found.
     */
   @DeleteMapping("/removeVolunteer")
-  public ResponseEntity<?> removeVolunteer(@RequestParam("apiKey") String apiKey,
-                                            @RequestParam("volunteerId") int volunteerId) {
+  public ResponseEntity<?> removeVolunteer(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("volunteerId") int volunteerId) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
@@ -87,17 +87,18 @@ public class VolunteerController {
   /**
     * Update schedule of volunteer.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param volunteerId A {@code String} representing the volunteer ID.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully removed
   and a HTTP 200 response or, HTTP 404 response if API Key was not found.
     */
   @PatchMapping("/updateSchedule")
-  public ResponseEntity<?> updateSchedule(@RequestParam("apiKey") String apiKey,
-                                          @RequestParam("volunteerId") int volunteerId,
-                                          @RequestBody Map<String, String> newSchedule) {
+  public ResponseEntity<?> updateSchedule(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("volunteerId") int volunteerId,
+      @RequestBody Map<String, String> newSchedule) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
@@ -118,17 +119,18 @@ public class VolunteerController {
   /**
     * Update role of volunteer.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param volunteerId A {@code String} representing the volunteer ID.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully removed
   and a HTTP 200 response or, HTTP 404 reponse if API Key was not found.
     */
   @PatchMapping("/updateRole")
-  public ResponseEntity<?> updateRole(@RequestParam("apiKey") String apiKey,
-                                      @RequestParam("volunteerId") int volunteerId,
-                                      @RequestParam("role") String newRole) {
+  public ResponseEntity<?> updateRole(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("volunteerId") int volunteerId,
+      @RequestParam("role") String newRole) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
@@ -148,17 +150,18 @@ public class VolunteerController {
   /**
     * Update name of volunteer.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param volunteerId A {@code String} representing the volunteer ID.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully removed
   and a HTTP 200 response or, HTTP 404 reponse if API Key was not found.
     */
   @PatchMapping("/updateName")
-  public ResponseEntity<?> updateName(@RequestParam("apiKey") String apiKey,
-                                      @RequestParam("volunteerId") int volunteerId,
-                                      @RequestParam("name") String newName) {
+  public ResponseEntity<?> updateName(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("volunteerId") int volunteerId,
+      @RequestParam("name") String newName) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
@@ -178,24 +181,25 @@ public class VolunteerController {
   /**
     * Get volunteer info.
     *
-    * @param apiKey A {@code String} representing the API key.
+    * @param principal The {@code ApiKeyPrincipal} resolved from the request's API key.
     * @param volunteerId A {@code String} representing the volunteer ID.
     * @return A {@code ResponseEntity} A message if Volunteer was successfully removed
   and a HTTP 200 response or, HTTP 404 reponse if API Key was not found.
     */
   @GetMapping("/getVolunteerInfo")
-  public ResponseEntity<?> getVolunteerInfo(@RequestParam("apiKey") String apiKey,
-                                            @RequestParam("volunteerId") int volunteerId) {
+  public ResponseEntity<?> getVolunteerInfo(
+      @RequestAttribute(ApiKeyPrincipal.ATTRIBUTE) ApiKeyPrincipal principal,
+      @RequestParam("volunteerId") int volunteerId) {
     try {
-      boolean validApiKey = auth.verifyApiKey(apiKey).getStatusCode() == HttpStatus.OK;
+      boolean validApiKey = principal.isValid();
       if (!validApiKey) {
         return new ResponseEntity<>("Invalid API key.", HttpStatus.FORBIDDEN);
       }
 
-      Volunteer volunteer = volunteerRepository.findById(volunteerId)
+      Volunteer volunteer = volunteerRepository.findWithScheduleByVolunteerId(volunteerId)
               .orElseThrow(() -> new IllegalArgumentException("Volunteer not found."));
 
-      return new ResponseEntity<>(volunteer.toString(), HttpStatus.OK);
+      return new ResponseEntity<>(new VolunteerInfo(volunteer), HttpStatus.OK);
     } catch (Exception e) {
       return handleException(e);
     }
@@ -0,0 +1,74 @@
+package com.smartprogrammingbaddies.volunteer;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A volunteer's details as returned by /getVolunteerInfo.
+ */
+public class VolunteerInfo {
+  private final int id;
+  private final String name;
+  private final String role;
+  private final String dateSignUp;
+  private final Map<String, String> schedule;
+
+  /**
+   * Constructs the details of a volunteer, with the schedule ordered by date.
+   *
+   * @param volunteer the volunteer
+   */
+  public VolunteerInfo(Volunteer volunteer) {
+    this.id = volunteer.getVolunteerId();
+    this.name = volunteer.getName();
+    this.role = volunteer.getRole();
+    this.dateSignUp = volunteer.getDateSignUp();
+    this.schedule = volunteer.getSchedule() == null
+        ? Map.of() : new TreeMap<>(volunteer.getSchedule());
+  }
+
+  /**
+   * Gets the ID of the volunteer.
+   *
+   * @return the volunteer's ID
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the volunteer.
+   *
+   * @return the volunteer's name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the role of the volunteer.
+   *
+   * @return the volunteer's role
+   */
+  public String getRole() {
+    return role;
+  }
+
+  /**
+   * Gets the date the volunteer signed up.
+   *
+   * @return the sign-up date
+   */
+  public String getDateSignUp() {
+    return dateSignUp;
+  }
+
+  /**
+   * Gets the volunteering schedule, mapping each date to a time.
+   *
+   * @return the schedule, ordered by date
+   */
+  public Map<String, String> getSchedule() {
+    return schedule;
+  }
+}
@@ -1,5 +1,7 @@
 package com.smartprogrammingbaddies.volunteer;
 
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +10,12 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface VolunteerRepository extends JpaRepository<Volunteer, Integer> {
-    // Custom query methods can be added here if needed
+  /**
+   * Finds a volunteer with their schedule in one query.
+   *
+   * @param volunteerId the ID of the volunteer
+   * @return the volunteer, or empty if they do not exist
+   */
+  @EntityGraph(attributePaths = "schedule")
+  Optional<Volunteer> findWithScheduleByVolunteerId(int volunteerId);
 }
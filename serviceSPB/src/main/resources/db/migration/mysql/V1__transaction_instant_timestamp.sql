@@ -0,0 +1,40 @@
+-- Moves an existing MySQL Transaction table to the schema of the monthly rollover tables:
+-- one DATETIME(6) timestamp in UTC in place of the TIME timestamp and DATE date, and no
+-- foreign key to StorageCenter. ddl-auto=update neither drops nor retypes columns, so
+-- TransactionSchemaMigration runs this once at startup, under a named lock, when the
+-- table still has its date column. It can also be run by hand before deploying.
+--
+-- The old columns held the server's local time, which is UTC on App Engine. A server in
+-- another zone needs CONVERT_TZ(TIMESTAMP(date, timestamp), '<zone>', '+00:00') below.
+
+ALTER TABLE Transaction ADD COLUMN ts DATETIME(6) NULL;
+UPDATE Transaction SET ts = TIMESTAMP(date, timestamp);
+
+SET @fk = (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Transaction'
+    AND COLUMN_NAME = 'storage_center_id' AND REFERENCED_TABLE_NAME IS NOT NULL LIMIT 1);
+SET @ddl = IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE Transaction DROP FOREIGN KEY ', @fk));
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+-- Indexes on the old columns; idx_transaction_center_time is rebuilt on the new timestamp.
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'DO 0',
+        'ALTER TABLE Transaction DROP INDEX idx_transaction_center_date_id')
+    FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'Transaction' AND INDEX_NAME = 'idx_transaction_center_date_id');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'DO 0',
+        'ALTER TABLE Transaction DROP INDEX idx_transaction_center_time')
+    FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'Transaction' AND INDEX_NAME = 'idx_transaction_center_time');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+ALTER TABLE Transaction DROP COLUMN timestamp, DROP COLUMN date;
+ALTER TABLE Transaction CHANGE COLUMN ts timestamp DATETIME(6) NOT NULL;
+CREATE INDEX idx_transaction_center_time
+    ON Transaction (storage_center_id, timestamp, itemType, action, quantity);
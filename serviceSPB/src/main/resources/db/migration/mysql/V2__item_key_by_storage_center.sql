@@ -0,0 +1,18 @@
+-- Moves an existing MySQL Item table to the primary key (storage_center_id, type, name).
+-- Items were keyed by (type, name) alone, so a second center checking in an item another
+-- center already stocks hit a duplicate key. ddl-auto=update never changes an existing
+-- primary key, so ItemSchemaMigration runs this once at startup, under a named lock, when
+-- the key does not yet include storage_center_id. It can also be run by hand before deploying.
+--
+-- storage_center_id was already a NOT NULL column, and (type, name) was unique, so every
+-- existing row stays unique under the new key.
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE Item DROP PRIMARY KEY, ADD PRIMARY KEY (storage_center_id, type, name)',
+        'DO 0')
+    FROM information_schema.KEY_COLUMN_USAGE WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'Item' AND CONSTRAINT_NAME = 'PRIMARY'
+    AND COLUMN_NAME = 'storage_center_id');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
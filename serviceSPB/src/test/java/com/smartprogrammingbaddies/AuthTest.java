@@ -1,19 +1,24 @@
 package com.smartprogrammingbaddies;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.smartprogrammingbaddies.auth.ApiKey;
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
 import com.smartprogrammingbaddies.auth.ApiKeyRepository;
 import com.smartprogrammingbaddies.auth.AuthController;
+import com.smartprogrammingbaddies.client.ClientRepository;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -25,6 +30,7 @@ import org.springframework.test.web.servlet.ResultActions;
  * necessary tests to ensure functionality. </p>
  */
 @ActiveProfiles("test")
+@Import(ApiKeyCache.class)
 @WebMvcTest(AuthController.class)
 public class AuthTest {
   @Autowired
@@ -33,6 +39,8 @@ public class AuthTest {
   @MockBean
   private ApiKeyRepository apiKeyRepository;
   @MockBean
+  private ClientRepository clientRepository;
+  @MockBean
   private ApiKey apiKey;
   private String key;
 
@@ -99,4 +107,47 @@ public class AuthTest {
     ResultActions result = mockMvc.perform(get("/verifyApiKey").param("apiKey", badKey));
     result.andExpect(status().isInternalServerError());
   }
+
+  /**
+   * Tests that repeated verifications of the same key are served from the cache.
+   */
+  @Test
+  public void verifyApiKeyCachedTest() throws Exception {
+    mockMvc.perform(get("/verifyApiKey").param("apiKey", key)).andExpect(status().isOk());
+    mockMvc.perform(get("/verifyApiKey").param("apiKey", key)).andExpect(status().isOk());
+    verify(apiKeyRepository, times(1)).existsByApiKey(key);
+  }
+
+  /**
+   * Tests that unknown keys are negatively cached.
+   */
+  @Test
+  public void verifyInvalidApiKeyCachedTest() throws Exception {
+    String invalidKey = UUID.randomUUID().toString();
+    when(apiKeyRepository.existsByApiKey(invalidKey)).thenReturn(false);
+    mockMvc.perform(get("/verifyApiKey").param("apiKey", invalidKey))
+            .andExpect(status().isForbidden());
+    mockMvc.perform(get("/verifyApiKey").param("apiKey", invalidKey))
+            .andExpect(status().isForbidden());
+    verify(apiKeyRepository, times(1)).existsByApiKey(invalidKey);
+  }
+
+  /**
+   * Tests the API key cache statistics endpoint.
+   */
+  @Test
+  public void apiKeyCacheStatsTest() throws Exception {
+    ResultActions result = mockMvc.perform(get("/apiKeyCacheStats").param("apiKey", key));
+    result.andExpect(status().isOk());
+  }
+
+  /**
+   * Tests that the API key cache statistics require a valid API key.
+   */
+  @Test
+  public void apiKeyCacheStatsForbiddenTest() throws Exception {
+    mockMvc.perform(get("/apiKeyCacheStats")).andExpect(status().isForbidden());
+    mockMvc.perform(get("/apiKeyCacheStats").param("apiKey", TestUtils.badApiKey))
+        .andExpect(status().isForbidden());
+  }
 }
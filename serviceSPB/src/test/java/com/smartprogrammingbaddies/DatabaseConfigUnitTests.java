@@ -0,0 +1,34 @@
+package com.smartprogrammingbaddies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+/**
+ * Unit tests for the DatabaseConfig class.
+ */
+public class DatabaseConfigUnitTests {
+
+  /**
+   * Tests that the production pool is sized, named and caches statements without
+   * connecting to the database.
+   */
+  @Test
+  public void productionPoolTest() {
+    DataSourceProperties properties = new DataSourceProperties();
+    properties.setUrl("jdbc:h2:mem:pooltest");
+    properties.setUsername("sa");
+    try (HikariDataSource dataSource = new DatabaseConfig().primaryDataSource(properties)) {
+      assertEquals("primary", dataSource.getPoolName());
+      assertEquals("jdbc:h2:mem:pooltest", dataSource.getJdbcUrl());
+      assertEquals(20, dataSource.getMaximumPoolSize());
+      assertEquals(5, dataSource.getMinimumIdle());
+      assertEquals(10_000, dataSource.getConnectionTimeout());
+      assertEquals(20_000, dataSource.getLeakDetectionThreshold());
+      assertEquals("true", dataSource.getDataSourceProperties().get("cachePrepStmts"));
+      assertEquals("true", dataSource.getDataSourceProperties().get("rewriteBatchedStatements"));
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.smartprogrammingbaddies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.smartprogrammingbaddies.auth.ApiKeyRepository;
+import com.smartprogrammingbaddies.client.ClientRepository;
+import com.smartprogrammingbaddies.event.EventRepository;
+import com.smartprogrammingbaddies.organization.OrganizationRepository;
+import com.smartprogrammingbaddies.storagecenter.InventoryService;
+import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Drives a mix of inventory, event and organization requests with many concurrent clients
+ * against the app on the H2 test database, seeded by {@link LoadDataGenerator}, and prints
+ * the throughput, p50 and p99 latency and database statements of each endpoint. Run with
+ * {@code mvn test -Pload -Dtest=EndToEndLoadTests}; the sizes of the data, the seed and the
+ * mix, as endpoint=weight pairs, are set with the load.* properties of the pom.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.cloud.gcp.core.enabled=false", "spring.cloud.gcp.storage.enabled=false",
+    "spring.cloud.gcp.sql.enabled=false", "logging.level.org.springframework=INFO",
+    "logging.level.org.hibernate=INFO"})
+public class EndToEndLoadTests {
+  private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+  private static final long SECONDS = Long.getLong("load.seconds", 10);
+  private static final long SEED = Long.getLong("load.seed", 42);
+  private static final int CENTERS = Integer.getInteger("load.centers", 10);
+  private static final int ITEMS = Integer.getInteger("load.items", 1000);
+  private static final int ORGANIZATIONS = Integer.getInteger("load.organizations", 20);
+  private static final int EVENTS = Integer.getInteger("load.events", 200);
+  private static final int VOLUNTEERS = Integer.getInteger("load.volunteers", 10);
+  private static final String MIX = System.getProperty("load.mix", "checkInItems=30,"
+      + "checkOutItems=20,listInventory=30,searchEventsByLocation=10,getOrganization=10");
+  private static final int SAMPLES = 50;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private StorageCenterRepository storageCenterRepository;
+  @Autowired
+  private InventoryService inventoryService;
+  @Autowired
+  private ApiKeyRepository apiKeyRepository;
+  @Autowired
+  private ClientRepository clientRepository;
+  @Autowired
+  private OrganizationRepository organizationRepository;
+  @Autowired
+  private EventRepository eventRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private LoadDataGenerator.Dataset dataset;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .build();
+
+  /**
+   * Seeds the database, counts the statements of each endpoint over sequential requests,
+   * then drives the mix with every client for the configured time, and fails if any
+   * request fails.
+   *
+   * @throws Exception if the app cannot be reached
+   */
+  @Test
+  public void mixedWorkloadTest() throws Exception {
+    long seeding = System.nanoTime();
+    dataset = new LoadDataGenerator(storageCenterRepository, inventoryService,
+        apiKeyRepository, clientRepository, organizationRepository, eventRepository,
+        transactionManager).seed(SEED, CENTERS, ITEMS, ORGANIZATIONS, EVENTS, VOLUNTEERS);
+    System.out.printf("=== LOAD seeded %d centers x %d items, %d organizations, %d events x "
+        + "%d volunteers in %d ms%n", CENTERS, ITEMS, ORGANIZATIONS, EVENTS, VOLUNTEERS,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seeding));
+
+    Map<String, Integer> mix = parseMix(MIX);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    Map<String, Double> statements = new LinkedHashMap<>();
+    Random random = new Random(SEED);
+    for (String endpoint : mix.keySet()) {
+      statistics.clear();
+      for (int n = 0; n < SAMPLES; n++) {
+        assertEquals(200, client.send(request(endpoint, random),
+            HttpResponse.BodyHandlers.discarding()).statusCode(), endpoint);
+      }
+      statements.put(endpoint, statistics.getPrepareStatementCount() / (double) SAMPLES);
+    }
+
+    assertEquals(0, measure(mix, statements));
+  }
+
+  private long measure(Map<String, Integer> mix, Map<String, Double> statements)
+      throws Exception {
+    List<String> endpoints = new ArrayList<>(mix.keySet());
+    int[] cumulative = new int[endpoints.size()];
+    int total = 0;
+    for (int e = 0; e < endpoints.size(); e++) {
+      total += mix.get(endpoints.get(e));
+      cumulative[e] = total;
+    }
+    Map<String, ConcurrentLinkedQueue<Long>> latencies = new LinkedHashMap<>();
+    for (String endpoint : endpoints) {
+      latencies.put(endpoint, new ConcurrentLinkedQueue<>());
+    }
+    LongAdder failed = new LongAdder();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    List<Future<?>> running = new ArrayList<>();
+    for (int c = 0; c < CLIENTS; c++) {
+      Random random = new Random(SEED + c + 1);
+      int weights = total;
+      running.add(clients.submit(() -> {
+        while (System.nanoTime() < deadline) {
+          int pick = random.nextInt(weights);
+          int e = 0;
+          while (cumulative[e] <= pick) {
+            e++;
+          }
+          String endpoint = endpoints.get(e);
+          long start = System.nanoTime();
+          try {
+            HttpResponse<Void> response = client.send(request(endpoint, random),
+                HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+              latencies.get(endpoint).add(System.nanoTime() - start);
+            } else {
+              failed.increment();
+            }
+          } catch (Exception ex) {
+            failed.increment();
+          }
+        }
+        return null;
+      }));
+    }
+    for (Future<?> client : running) {
+      client.get();
+    }
+    clients.shutdown();
+
+    System.out.printf("=== LOAD mix %s, %d clients, %d s: %d failed%n", MIX, CLIENTS, SECONDS,
+        failed.sum());
+    for (String endpoint : endpoints) {
+      List<Long> sorted = new ArrayList<>(latencies.get(endpoint));
+      Collections.sort(sorted);
+      System.out.printf("=== LOAD %-22s %7d requests %8.0f requests/s  p50 %7.2f ms  "
+          + "p99 %7.2f ms  %5.1f statements/request%n", endpoint, sorted.size(),
+          sorted.size() / (double) SECONDS, percentile(sorted, 50), percentile(sorted, 99),
+          statements.get(endpoint));
+    }
+    return failed.sum();
+  }
+
+  private HttpRequest request(String endpoint, Random random) {
+    int item = random.nextInt(dataset.items);
+    String itemParams = "storageCenterId="
+        + dataset.centerIds.get(random.nextInt(dataset.centerIds.size()))
+        + "&type=" + LoadDataGenerator.TYPES[item % LoadDataGenerator.TYPES.length]
+        + "&name=Item%20" + item + "&quantity=1";
+    int organization = random.nextInt(dataset.organizationIds.size());
+    String apiKey = dataset.apiKeys.get(organization);
+    if ("checkInItems".equals(endpoint)) {
+      return request("PATCH", "/checkInItems?" + itemParams + "&expirationDate=2099-01-01");
+    } else if ("checkOutItems".equals(endpoint)) {
+      return request("PATCH", "/checkOutItems?" + itemParams);
+    } else if ("listInventory".equals(endpoint)) {
+      return request("GET", "/listInventory?storageCenterId="
+          + dataset.centerIds.get(random.nextInt(dataset.centerIds.size())));
+    } else if ("searchEventsByLocation".equals(endpoint)) {
+      String location = LoadDataGenerator.LOCATIONS[
+          random.nextInt(LoadDataGenerator.LOCATIONS.length)];
+      return request("GET", "/searchEventsByLocation?apiKey=" + apiKey + "&location="
+          + location.replace(" ", "%20"));
+    } else if ("getOrganization".equals(endpoint)) {
+      return request("GET", "/getOrganization?apiKey=" + apiKey + "&orgId="
+          + dataset.organizationIds.get(organization));
+    }
+    throw new IllegalArgumentException("Unknown endpoint in load.mix: " + endpoint);
+  }
+
+  private HttpRequest request(String method, String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .method(method, HttpRequest.BodyPublishers.noBody())
+        .build();
+  }
+
+  private static Map<String, Integer> parseMix(String mix) {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String entry : mix.split(",")) {
+      String[] pair = entry.trim().split("=");
+      int weight = Integer.parseInt(pair[1].trim());
+      if (weight < 1) {
+        throw new IllegalArgumentException("Weights in load.mix must be positive: " + entry);
+      }
+      weights.put(pair[0].trim(), weight);
+    }
+    return weights;
+  }
+
+  private static double percentile(List<Long> sorted, int percentile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, index)) / 1_000_000.0;
+  }
+}
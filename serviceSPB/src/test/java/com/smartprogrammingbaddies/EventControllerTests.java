@@ -3,14 +3,17 @@ package com.smartprogrammingbaddies;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
 import com.smartprogrammingbaddies.auth.ApiKeyRepository;
-import com.smartprogrammingbaddies.auth.AuthController;
 import com.smartprogrammingbaddies.client.Client;
+import com.smartprogrammingbaddies.client.ClientRepository;
 import com.smartprogrammingbaddies.event.Event;
 import com.smartprogrammingbaddies.event.EventController;
 import com.smartprogrammingbaddies.event.EventRepository;
+import com.smartprogrammingbaddies.event.EventSummary;
 import com.smartprogrammingbaddies.organization.Organization;
 import com.smartprogrammingbaddies.organization.OrganizationRepository;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
@@ -18,7 +21,9 @@ import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
 import com.smartprogrammingbaddies.utils.TimeSlot;
 import com.smartprogrammingbaddies.volunteer.Volunteer;
 import com.smartprogrammingbaddies.volunteer.VolunteerRepository;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -29,13 +34,13 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 /**
  * Unit tests for the Event Controller.
  */
+@Import(ApiKeyCache.class)
 @WebMvcTest(EventController.class)
 public class EventControllerTests {
 
@@ -46,13 +51,13 @@ public class EventControllerTests {
   private String badApiKey = TestUtils.badApiKey;
   private static String eventId = "0";
 
-  @MockBean
-  private AuthController auth;
   @MockBean
   private OrganizationRepository organizationRepository;
   @MockBean
   private ApiKeyRepository apiKeyRepository;
   @MockBean
+  private ClientRepository clientRepository;
+  @MockBean
   private StorageCenterRepository storageCenterRepository;
   @MockBean
   private EventRepository eventRepository;
@@ -66,13 +71,8 @@ public class EventControllerTests {
   public void setUp() {
     Mockito.when(eventRepository.findById(Integer.valueOf(eventId))).thenReturn(
         Optional.of(new Event()));
-    ResponseEntity<?> validKeyResponse = new ResponseEntity<>("Valid API Key",
-        HttpStatus.OK);
-    ResponseEntity<?> invalidKeyResponse = new ResponseEntity<>("Invalid API key.",
-        HttpStatus.FORBIDDEN);
-
-    Mockito.when(auth.verifyApiKey(apiKey)).thenReturn((ResponseEntity) validKeyResponse);
-    Mockito.when(auth.verifyApiKey(badApiKey)).thenReturn((ResponseEntity) invalidKeyResponse);
+    Mockito.when(apiKeyRepository.existsByApiKey(apiKey)).thenReturn(true);
+    Mockito.when(apiKeyRepository.existsByApiKey(badApiKey)).thenReturn(false);
 
     StorageCenter mockStorage = new StorageCenter("Mock Storage", "A mock storage for testing");
     Set<String> mockSchedule = new HashSet<>();
@@ -95,6 +95,9 @@ public class EventControllerTests {
 
     Mockito.when(eventRepository.findById(Integer.valueOf(eventId)))
         .thenReturn(Optional.of(mockEvent));
+    Mockito.when(eventRepository.findDetailsById(1)).thenReturn(Optional.of(mockEvent));
+    Mockito.when(eventRepository.findDetailsById(Integer.parseInt(eventId)))
+        .thenReturn(Optional.of(mockEvent));
   }
 
   @Test
@@ -191,7 +194,7 @@ public class EventControllerTests {
         .contentType("application/json"))
         .andExpect(status().isUnauthorized());
 
-    Mockito.when(eventRepository.findById(2)).thenReturn(Optional.empty());
+    Mockito.when(eventRepository.findDetailsById(2)).thenReturn(Optional.empty());
 
     mockMvc.perform(post("/addVolunteerToEvent")
         .param("apiKey", apiKey)
@@ -200,7 +203,7 @@ public class EventControllerTests {
         .contentType("application/json"))
         .andExpect(status().isNotFound());
 
-    Mockito.when(eventRepository.findById(1)).thenReturn(Optional.of(new Event()));
+    Mockito.when(eventRepository.findDetailsById(1)).thenReturn(Optional.of(new Event()));
     Mockito.when(volunteerRepository.findById(3)).thenReturn(Optional.empty());
 
     mockMvc.perform(post("/addVolunteerToEvent")
@@ -227,6 +230,28 @@ public class EventControllerTests {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  public void retrieveEventBodyTest() throws Exception {
+    Event event = eventRepository.findById(1).orElseThrow();
+    Volunteer zoe = new Volunteer("zoe", "Driver", "2024-10-01", new HashMap<>());
+    Volunteer adam = new Volunteer("Adam", "Packer", "2024-10-01", new HashMap<>());
+    event.addVolunteer(zoe);
+    event.addVolunteer(adam);
+
+    mockMvc.perform(get("/retrieveEvent")
+        .param("apiKey", apiKey)
+        .param("eventId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name").value("Food Drive"))
+        .andExpect(jsonPath("$.startTime").value("09:00"))
+        .andExpect(jsonPath("$.endTime").value("13:30"))
+        .andExpect(jsonPath("$.storageCenter").value("Mock Storage"))
+        .andExpect(jsonPath("$.organizer").value("Mock Organization"))
+        .andExpect(jsonPath("$.cancelled").value(false))
+        .andExpect(jsonPath("$.volunteers[0].name").value("Adam"))
+        .andExpect(jsonPath("$.volunteers[1].name").value("zoe"));
+  }
+
   @Test
   public void retrieveEventFailTest() throws Exception {
 
@@ -243,23 +268,26 @@ public class EventControllerTests {
 
   @Test
   public void searchEventsByDateTest() throws Exception {
-    List<Event> mockEvents = new ArrayList<>();
-    mockEvents.add(new Event("Food Drive", "Description", "2024-10-30",
-        new TimeSlot("09:00", "13:30"), "Location", null, null, new HashSet<>()));
+    List<EventSummary> mockEvents = new ArrayList<>();
+    mockEvents.add(new EventSummary(1, "Food Drive", "2024-10-30", LocalTime.of(9, 0),
+        LocalTime.of(13, 30), "Location", null, null, 0));
 
-    Mockito.when(eventRepository.findByDate("2024-10-30")).thenReturn(mockEvents);
+    Mockito.when(eventRepository.findSummariesByDate("2024-10-30")).thenReturn(mockEvents);
 
     mockMvc.perform(get("/searchEventsByDate")
         .param("apiKey", apiKey)
         .param("date", "2024-10-30")
         .contentType("application/json"))
-        .andExpect(status().isOk());
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].name").value("Food Drive"))
+        .andExpect(jsonPath("$[0].startTime").value("09:00"))
+        .andExpect(jsonPath("$[0].volunteerCount").value(0));
   }
 
   @Test
   public void searchEventsByDateFailTest() throws Exception {
-    List<Event> mockEvents = new ArrayList<>();
-    Mockito.when(eventRepository.findByDate("2024-11-01")).thenReturn(mockEvents);
+    List<EventSummary> mockEvents = new ArrayList<>();
+    Mockito.when(eventRepository.findSummariesByDate("2024-11-01")).thenReturn(mockEvents);
 
     mockMvc.perform(get("/searchEventsByDate")
         .param("apiKey", apiKey)
@@ -270,11 +298,11 @@ public class EventControllerTests {
 
   @Test
   public void searchEventsByLocationTest() throws Exception {
-    List<Event> mockEvents = new ArrayList<>();
-    mockEvents.add(new Event("Food Drive", "Description", "2024-10-30",
-        new TimeSlot("09:00", "13:30"), "Columbia University", null, null, new HashSet<>()));
+    List<EventSummary> mockEvents = new ArrayList<>();
+    mockEvents.add(new EventSummary(1, "Food Drive", "2024-10-30", LocalTime.of(9, 0),
+        LocalTime.of(13, 30), "Columbia University", null, null, 0));
 
-    Mockito.when(eventRepository.findByLocationContainingIgnoreCase("Columbia University"))
+    Mockito.when(eventRepository.findSummariesByLocation("Columbia University"))
         .thenReturn(mockEvents);
 
     mockMvc.perform(get("/searchEventsByLocation")
@@ -286,8 +314,8 @@ public class EventControllerTests {
 
   @Test
   public void searchEventsByLocationFailTest() throws Exception {
-    List<Event> mockEvents = new ArrayList<>();
-    Mockito.when(eventRepository.findByLocationContainingIgnoreCase("Nonexistent Location"))
+    List<EventSummary> mockEvents = new ArrayList<>();
+    Mockito.when(eventRepository.findSummariesByLocation("Nonexistent Location"))
             .thenReturn(mockEvents);
 
     mockMvc.perform(get("/searchEventsByLocation")
@@ -0,0 +1,162 @@
+package com.smartprogrammingbaddies;
+
+import com.smartprogrammingbaddies.auth.ApiKey;
+import com.smartprogrammingbaddies.auth.ApiKeyRepository;
+import com.smartprogrammingbaddies.client.Client;
+import com.smartprogrammingbaddies.client.ClientRepository;
+import com.smartprogrammingbaddies.event.Event;
+import com.smartprogrammingbaddies.event.EventRepository;
+import com.smartprogrammingbaddies.organization.Organization;
+import com.smartprogrammingbaddies.organization.OrganizationRepository;
+import com.smartprogrammingbaddies.storagecenter.CheckInLine;
+import com.smartprogrammingbaddies.storagecenter.InventoryService;
+import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
+import com.smartprogrammingbaddies.utils.DateParser;
+import com.smartprogrammingbaddies.utils.TimeSlot;
+import com.smartprogrammingbaddies.volunteer.Volunteer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Seeds the database with storage centers, items, organizations, events and volunteers for
+ * load tests. Everything but the API keys is derived from the seed, so two runs with the
+ * same seed and sizes issue the same requests against the same data.
+ */
+public class LoadDataGenerator {
+  static final String[] TYPES = {"FOOD", "CLOTHING", "TOILETRIES"};
+  static final String[] LOCATIONS = {"New York", "Brooklyn", "Queens", "Bronx", "Newark"};
+  private static final int BATCH_SIZE = 500;
+
+  private final StorageCenterRepository storageCenterRepository;
+  private final InventoryService inventoryService;
+  private final ApiKeyRepository apiKeyRepository;
+  private final ClientRepository clientRepository;
+  private final OrganizationRepository organizationRepository;
+  private final EventRepository eventRepository;
+  private final TransactionTemplate transaction;
+
+  /**
+   * Constructs a LoadDataGenerator writing through the app's repositories.
+   *
+   * @param storageCenterRepository the repository of storage centers
+   * @param inventoryService the service checking items in, which also keeps the totals
+   * @param apiKeyRepository the repository of issued API keys
+   * @param clientRepository the repository of clients
+   * @param organizationRepository the repository of organizations
+   * @param eventRepository the repository of events, which also saves their volunteers
+   * @param transactionManager the manager of the transactions the data is written in
+   */
+  public LoadDataGenerator(StorageCenterRepository storageCenterRepository,
+      InventoryService inventoryService, ApiKeyRepository apiKeyRepository,
+      ClientRepository clientRepository, OrganizationRepository organizationRepository,
+      EventRepository eventRepository, PlatformTransactionManager transactionManager) {
+    this.storageCenterRepository = storageCenterRepository;
+    this.inventoryService = inventoryService;
+    this.apiKeyRepository = apiKeyRepository;
+    this.clientRepository = clientRepository;
+    this.organizationRepository = organizationRepository;
+    this.eventRepository = eventRepository;
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Seeds the database. Each center is stocked with items "Item 0" to "Item (items - 1)",
+   * of type {@code TYPES[i % TYPES.length]} and a large quantity, and each organization is
+   * subscribed to notifications and has its own client and API key. Events take place
+   * over the next 30 days, cycle through {@link #LOCATIONS}, and are organized by a random
+   * organization. A center hosts at most one event, so only the first events are hosted.
+   *
+   * @param seed the seed of the random choices
+   * @param centers the number of storage centers
+   * @param items the number of items stocked by each center
+   * @param organizations the number of organizations
+   * @param events the number of events
+   * @param volunteers the number of volunteers of each event
+   * @return the IDs and API keys of the seeded data
+   */
+  public Dataset seed(long seed, int centers, int items, int organizations, int events,
+      int volunteers) {
+    if (centers < 1 || items < 1 || organizations < 1 || events < LOCATIONS.length
+        || volunteers < 0) {
+      throw new IllegalArgumentException("Load data needs at least one center, item and "
+          + "organization and " + LOCATIONS.length + " events.");
+    }
+    Random random = new Random(seed);
+    Dataset dataset = new Dataset(items);
+
+    List<StorageCenter> savedCenters = new ArrayList<>();
+    for (int c = 0; c < centers; c++) {
+      StorageCenter center = storageCenterRepository.save(
+          new StorageCenter("Center " + c, "Seeded for load tests"));
+      savedCenters.add(center);
+      dataset.centerIds.add(center.getDatabaseId());
+      for (int first = 0; first < items; first += BATCH_SIZE) {
+        List<CheckInLine> lines = new ArrayList<>();
+        for (int i = first; i < Math.min(items, first + BATCH_SIZE); i++) {
+          lines.add(new CheckInLine(TYPES[i % TYPES.length], "Item " + i, 100_000,
+              "2099-01-01"));
+        }
+        inventoryService.checkInBatch(center, lines);
+      }
+    }
+
+    List<Organization> savedOrganizations = new ArrayList<>();
+    transaction.executeWithoutResult(status -> {
+      for (int o = 0; o < organizations; o++) {
+        String apiKey = UUID.randomUUID().toString();
+        apiKeyRepository.save(new ApiKey(apiKey));
+        Client client = clientRepository.save(new Client(apiKey));
+        Organization organization = new Organization("Organization " + o, "Food Bank", client);
+        organization.changeSubscriptionStatus();
+        organization = organizationRepository.save(organization);
+        client.setOrganization(organization);
+        savedOrganizations.add(organization);
+        dataset.organizationIds.add(organization.getDatabaseId());
+        dataset.apiKeys.add(apiKey);
+      }
+    });
+
+    transaction.executeWithoutResult(status -> {
+      LocalDate today = LocalDate.now();
+      List<Event> seededEvents = new ArrayList<>();
+      for (int e = 0; e < events; e++) {
+        Set<Volunteer> signedUp = new HashSet<>();
+        for (int v = 0; v < volunteers; v++) {
+          signedUp.add(new Volunteer("Volunteer " + e + "-" + v, "Helper", "2024-01-01",
+              new HashMap<>()));
+        }
+        String date = DateParser.numericDateToString(today.plusDays(random.nextInt(30)));
+        seededEvents.add(new Event("Event " + e, "Seeded for load tests", date,
+            new TimeSlot("09:00", "17:00"), LOCATIONS[e % LOCATIONS.length],
+            e < centers ? savedCenters.get(e) : null,
+            savedOrganizations.get(random.nextInt(organizations)), signedUp));
+      }
+      eventRepository.saveAll(seededEvents);
+    });
+    return dataset;
+  }
+
+  /**
+   * The IDs and API keys of the seeded data. The API key at an index belongs to the client
+   * of the organization at the same index.
+   */
+  public static class Dataset {
+    final int items;
+    final List<Integer> centerIds = new ArrayList<>();
+    final List<Integer> organizationIds = new ArrayList<>();
+    final List<String> apiKeys = new ArrayList<>();
+
+    Dataset(int items) {
+      this.items = items;
+    }
+  }
+}
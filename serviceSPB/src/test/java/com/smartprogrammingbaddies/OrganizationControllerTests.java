@@ -6,19 +6,25 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
+import com.smartprogrammingbaddies.auth.ApiKeyRepository;
 import com.smartprogrammingbaddies.client.Client;
 import com.smartprogrammingbaddies.client.ClientRepository;
 import com.smartprogrammingbaddies.event.Event;
 import com.smartprogrammingbaddies.event.EventRepository;
+import com.smartprogrammingbaddies.event.EventSummary;
 import com.smartprogrammingbaddies.organization.Organization;
 import com.smartprogrammingbaddies.organization.OrganizationController;
 import com.smartprogrammingbaddies.organization.OrganizationRepository;
 import com.smartprogrammingbaddies.storagecenter.StorageCenter;
 import com.smartprogrammingbaddies.storagecenter.StorageCenterRepository;
 import com.smartprogrammingbaddies.utils.TimeSlot;
+import java.time.LocalTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +32,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -34,6 +43,7 @@ import org.springframework.test.web.servlet.ResultActions;
  * API endpoints tests for the OrganizationController class.
  */
 @ActiveProfiles("test")
+@Import(ApiKeyCache.class)
 @WebMvcTest(OrganizationController.class)
 public class OrganizationControllerTests {
   @Autowired
@@ -45,6 +55,9 @@ public class OrganizationControllerTests {
   @MockBean
   private ClientRepository clientRepository;
 
+  @MockBean
+  private ApiKeyRepository apiKeyRepository;
+
   @MockBean
   private EventRepository eventRepository;
 
@@ -85,6 +98,7 @@ public class OrganizationControllerTests {
     organization.setDatabaseId(0);
     organization.setStorage(storage);
     when(clientRepository.save(any(Client.class))).thenReturn(client);
+    when(apiKeyRepository.existsByApiKey("test")).thenReturn(true);
     when(clientRepository.findByApiKey("test")).thenReturn(client);
     when(clientRepository.findByApiKey("invalid")).thenReturn(null);
     when(organizationRepository.save(organization)).thenReturn(organization);
@@ -108,6 +122,7 @@ public class OrganizationControllerTests {
     when(eventRepository.findById(0)).thenReturn(Optional.of(event));
     when(eventRepository.findById(1)).thenReturn(Optional.empty());
     when(eventRepository.findAll()).thenReturn(events);
+    when(eventRepository.findUpcoming(any(), any(), any())).thenReturn(new SliceImpl<>(List.of()));
   }
 
   /**
@@ -115,12 +130,17 @@ public class OrganizationControllerTests {
     */
   @Test
   public void createOrganizationTest() throws Exception {
+    when(organizationRepository.save(any(Organization.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
     ResultActions result = mockMvc.perform(post("/createOrganization")
           .param("orgName", "Upper Best Side")
           .param("orgType", "For Profit")
           .param("apiKey", "test"));
 
-    result.andExpect(status().isOk());
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.orgName").value("Upper Best Side"))
+        .andExpect(jsonPath("$.orgType").value("For Profit"))
+        .andExpect(jsonPath("$.subscriptionStatus").value(false));
   }
 
   /**
@@ -176,6 +196,50 @@ public class OrganizationControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Tests that the getOrganization method lists a page of upcoming events.
+   */
+  @Test
+  public void getOrganizationUpcomingEventsTest() throws Exception {
+    organization.changeSubscriptionStatus();
+    EventSummary summary = new EventSummary(3, "Charity Drive", "2024-12-25",
+        LocalTime.of(9, 0), LocalTime.of(10, 0), "East Village", "UpperBestSide",
+        "Upper Best Side", 2);
+    when(eventRepository.findUpcoming("2024-12-01", "2024-12-31", PageRequest.of(1, 1)))
+        .thenReturn(new SliceImpl<>(List.of(summary), PageRequest.of(1, 1), true));
+    ResultActions result = mockMvc.perform(get("/getOrganization")
+          .param("orgId", "0")
+          .param("apiKey", "test")
+          .param("from", "2024-12-01")
+          .param("to", "2024-12-31")
+          .param("page", "1")
+          .param("size", "1"));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.upcomingEvents[0].name").value("Charity Drive"))
+        .andExpect(jsonPath("$.upcomingEvents[0].startTime").value("09:00"))
+        .andExpect(jsonPath("$.upcomingEvents[0].volunteerCount").value(2))
+        .andExpect(jsonPath("$.hasMoreEvents").value(true));
+  }
+
+  /**
+   * Tests that the getOrganization method rejects invalid event paging parameters.
+   */
+  @Test
+  public void getOrganizationInvalidEventParamsTest() throws Exception {
+    organization.changeSubscriptionStatus();
+    ResultActions result = mockMvc.perform(get("/getOrganization")
+          .param("orgId", "0")
+          .param("apiKey", "test")
+          .param("from", "12/01/2024"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/getOrganization")
+          .param("orgId", "0")
+          .param("apiKey", "test")
+          .param("size", "101"));
+    result.andExpect(status().isBadRequest());
+  }
+
   /**
     * Tests the getOrganization method with invalid inputs.
     */
@@ -0,0 +1,147 @@
+package com.smartprogrammingbaddies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Tests of the read replica routing of DatabaseConfig over two H2 databases, where the
+ * replica's heartbeat is written by the test in place of replication.
+ */
+public class ReplicaDataSourceUnitTests {
+  private static final long NOW = 1_000_000;
+
+  private HikariDataSource primary;
+  private HikariDataSource replica;
+  private ReplicaMonitor monitor;
+  private TransactionTemplate readTransaction;
+  private TransactionTemplate writeTransaction;
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Sets up a primary and a replica that each name themselves, and the routing between
+   * them.
+   */
+  @BeforeEach
+  public void setUp() {
+    primary = pool("jdbc:h2:mem:routingprimary");
+    replica = pool("jdbc:h2:mem:routingreplica");
+    new JdbcTemplate(primary).execute("CREATE TABLE whoami (name VARCHAR(16))");
+    new JdbcTemplate(primary).execute("INSERT INTO whoami VALUES ('primary')");
+    new JdbcTemplate(replica).execute("CREATE TABLE whoami (name VARCHAR(16))");
+    new JdbcTemplate(replica).execute("INSERT INTO whoami VALUES ('replica')");
+    new JdbcTemplate(replica).execute(ReplicaMonitor.CREATE_TABLE);
+
+    DatabaseConfig config = new DatabaseConfig();
+    monitor = config.replicaMonitor(primary, replica, 5000);
+    DataSource routing = config.dataSource(primary, replica, monitor);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+    readTransaction = new TransactionTemplate(transactionManager);
+    readTransaction.setReadOnly(true);
+    writeTransaction = new TransactionTemplate(transactionManager);
+    jdbcTemplate = new JdbcTemplate(routing);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest("GET", "/listInventory")));
+  }
+
+  /**
+   * Closes both databases and clears the request.
+   */
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    new JdbcTemplate(primary).execute("SHUTDOWN");
+    new JdbcTemplate(replica).execute("SHUTDOWN");
+    primary.close();
+    replica.close();
+  }
+
+  /**
+   * Tests that read-only work of a GET request goes to a caught-up replica and other work
+   * to the primary.
+   */
+  @Test
+  public void routingTest() {
+    replicate(NOW - 100);
+    monitor.check(NOW);
+    assertTrue(monitor.isAvailable());
+    assertEquals("replica", readTransaction.execute(status -> whoami()));
+    assertEquals("primary", writeTransaction.execute(status -> whoami()));
+    assertEquals(NOW, new JdbcTemplate(primary).queryForObject(
+        "SELECT beat_millis FROM replica_heartbeat WHERE id = 1", Long.class));
+  }
+
+  /**
+   * Tests that read-only work outside a GET request stays on the primary.
+   */
+  @Test
+  public void notGetTest() {
+    replicate(NOW);
+    monitor.check(NOW);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest("PATCH", "/updateCenterName")));
+    assertEquals("primary", readTransaction.execute(status -> whoami()));
+    RequestContextHolder.resetRequestAttributes();
+    assertEquals("primary", readTransaction.execute(status -> whoami()));
+  }
+
+  /**
+   * Tests that reads fall back to the primary while the replica lags or has no heartbeat.
+   */
+  @Test
+  public void lagTest() {
+    monitor.check(NOW);
+    assertFalse(monitor.isAvailable());
+    assertEquals(-1, monitor.getLagMillis());
+
+    replicate(NOW - 6000);
+    monitor.check(NOW);
+    assertFalse(monitor.isAvailable());
+    assertEquals(6000, monitor.getLagMillis());
+    assertEquals("primary", readTransaction.execute(status -> whoami()));
+  }
+
+  /**
+   * Tests that reads fall back to the primary once the replica stops accepting connections.
+   */
+  @Test
+  public void failureTest() {
+    replicate(NOW);
+    monitor.check(NOW);
+    new JdbcTemplate(replica).execute("SHUTDOWN");
+    replica.close();
+    assertEquals("primary", readTransaction.execute(status -> whoami()));
+    assertFalse(monitor.isAvailable());
+    replica = pool("jdbc:h2:mem:routingreplica");
+  }
+
+  private String whoami() {
+    return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+  }
+
+  private void replicate(long beat) {
+    JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+    if (replicaTemplate.update("UPDATE replica_heartbeat SET beat_millis = ?", beat) == 0) {
+      replicaTemplate.update("INSERT INTO replica_heartbeat VALUES (1, ?)", beat);
+    }
+  }
+
+  private static HikariDataSource pool(String url) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername("sa");
+    return dataSource;
+  }
+}
@@ -0,0 +1,113 @@
+package com.smartprogrammingbaddies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Measures the throughput of checkInItems and listInventory with many concurrent clients
+ * against the app on the H2 test database. Run with {@code mvn test -Pload}, adding
+ * {@code -Dload.virtual=true} on Java 21 or later to compare virtual with platform
+ * request threads.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.cloud.gcp.core.enabled=false", "spring.cloud.gcp.storage.enabled=false",
+    "spring.cloud.gcp.sql.enabled=false", "logging.level.org.springframework=INFO",
+    "logging.level.org.hibernate=INFO"})
+public class ThroughputLoadTests {
+  private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+  private static final long SECONDS = Long.getLong("load.seconds", 10);
+  private static final int ITEMS = 100;
+
+  @LocalServerPort
+  private int port;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .build();
+
+  /**
+   * Drives checkInItems and then listInventory with every client for the configured time,
+   * printing the throughput of each, and fails if any request fails.
+   *
+   * @throws Exception if the app cannot be reached
+   */
+  @Test
+  public void checkInAndListInventoryTest() throws Exception {
+    String center = send(request("POST", "/createCenter?name=Load&description=Load"))
+        .replaceAll("\\D", "");
+    String checkIn = "/checkInItems?storageCenterId=" + center
+        + "&type=FOOD&quantity=1&expirationDate=2099-01-01&name=Item";
+    for (int i = 0; i < ITEMS; i++) {
+      send(request("PATCH", checkIn + i));
+    }
+
+    assertEquals(0, measure("checkInItems", n -> request("PATCH", checkIn + n % ITEMS)));
+    assertEquals(0, measure("listInventory",
+        n -> request("GET", "/listInventory?storageCenterId=" + center)));
+  }
+
+  private long measure(String endpoint, IntFunction<HttpRequest> requests) throws Exception {
+    LongAdder completed = new LongAdder();
+    LongAdder failed = new LongAdder();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    List<Future<?>> running = new ArrayList<>();
+    for (int c = 0; c < CLIENTS; c++) {
+      int first = c;
+      running.add(clients.submit(() -> {
+        for (int n = first; System.nanoTime() < deadline; n += CLIENTS) {
+          try {
+            HttpResponse<Void> response = client.send(requests.apply(n),
+                HttpResponse.BodyHandlers.discarding());
+            (response.statusCode() == 200 ? completed : failed).increment();
+          } catch (Exception e) {
+            failed.increment();
+          }
+        }
+        return null;
+      }));
+    }
+    for (Future<?> client : running) {
+      client.get();
+    }
+    clients.shutdown();
+    System.out.printf("=== LOAD %s %s threads, Java %d, %d clients: %d requests, %d failed, "
+        + "%.0f requests/s%n", endpoint, virtualThreads ? "virtual" : "platform",
+        Runtime.version().feature(), CLIENTS, completed.sum(), failed.sum(),
+        completed.sum() / (double) SECONDS);
+    return failed.sum();
+  }
+
+  private HttpRequest request(String method, String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .method(method, HttpRequest.BodyPublishers.noBody())
+        .build();
+  }
+
+  private String send(HttpRequest request) throws Exception {
+    return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+  }
+}
@@ -3,10 +3,12 @@ package com.smartprogrammingbaddies;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
 import com.smartprogrammingbaddies.auth.ApiKeyRepository;
-import com.smartprogrammingbaddies.auth.AuthController;
+import com.smartprogrammingbaddies.client.ClientRepository;
 import com.smartprogrammingbaddies.volunteer.Volunteer;
 import com.smartprogrammingbaddies.volunteer.VolunteerController;
 import com.smartprogrammingbaddies.volunteer.VolunteerRepository;
@@ -19,8 +21,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -29,6 +30,7 @@ import org.springframework.test.web.servlet.MvcResult;
  * Unit tests for the Volunteer Controller.
  */
 @ActiveProfiles("test")
+@Import(ApiKeyCache.class)
 @WebMvcTest(VolunteerController.class)
 public class VolunteerControllerTests {
   private static final String prefix = "Volunteer enrolled with ID: ";
@@ -38,11 +40,10 @@ public class VolunteerControllerTests {
   private String badApiKey = TestUtils.badApiKey;
   private static String volunteerId = String.valueOf(0);
 
-  @MockBean
-  private AuthController auth;
-
   @MockBean
   private ApiKeyRepository apiKeyRepository;
+  @MockBean
+  private ClientRepository clientRepository;
 
   @MockBean
   private VolunteerRepository volunteerRepository;
@@ -53,17 +54,14 @@ public class VolunteerControllerTests {
   @BeforeEach
   public void setUp() {
 
-    ResponseEntity<?> mockResponse = new ResponseEntity<>("Valid API Key",
-            HttpStatus.OK);
-    ResponseEntity<?> mockResponse2 = new ResponseEntity<>("Invalid API key.",
-            HttpStatus.FORBIDDEN);
-
-    Mockito.when(auth.verifyApiKey(apiKey)).thenReturn((ResponseEntity) mockResponse);
-    Mockito.when(auth.verifyApiKey(badApiKey)).thenReturn((ResponseEntity) mockResponse2);
+    Mockito.when(apiKeyRepository.existsByApiKey(apiKey)).thenReturn(true);
+    Mockito.when(apiKeyRepository.existsByApiKey(badApiKey)).thenReturn(false);
 
     Volunteer mockVolunteer = new Volunteer("John Doe", "Tester", "1234567890", new HashMap<>());
     Mockito.when(volunteerRepository.findById(Integer.valueOf(volunteerId)))
             .thenReturn(Optional.of(mockVolunteer));
+    Mockito.when(volunteerRepository.findWithScheduleByVolunteerId(Integer.valueOf(volunteerId)))
+            .thenReturn(Optional.of(mockVolunteer));
   }
 
   @Test
@@ -201,6 +199,9 @@ public class VolunteerControllerTests {
                     .param("apiKey", apiKey)
                     .param("volunteerId", volunteerId))
             .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("John Doe"))
+            .andExpect(jsonPath("$.role").value("Tester"))
+            .andExpect(jsonPath("$.dateSignUp").value("1234567890"))
             .andReturn();
   }
 
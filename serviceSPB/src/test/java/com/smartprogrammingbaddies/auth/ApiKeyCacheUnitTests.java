@@ -0,0 +1,105 @@
+package com.smartprogrammingbaddies.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ApiKeyCache class.
+ */
+public class ApiKeyCacheUnitTests {
+
+  private ApiKeyCache testCache;
+
+  /**
+   * The ApiKeyCache set up to be tested.
+   */
+  @BeforeEach
+  public void setupCacheForTesting() {
+    testCache = new ApiKeyCache(2, 60_000);
+  }
+
+  /**
+   * Tests the constructor rejects a non-positive size or time to live.
+   */
+  @Test
+  public void constructorInvalidTest() {
+    assertThrows(IllegalArgumentException.class, () -> new ApiKeyCache(0, 60_000));
+    assertThrows(IllegalArgumentException.class, () -> new ApiKeyCache(10, 0));
+  }
+
+  /**
+   * Tests that the loader is only consulted on a miss, for valid and invalid keys.
+   */
+  @Test
+  public void isValidLoadsOnceTest() {
+    AtomicInteger loads = new AtomicInteger();
+    assertTrue(testCache.isValid("good", key -> loads.incrementAndGet() > 0));
+    assertTrue(testCache.isValid("good", key -> loads.incrementAndGet() > 0));
+    assertFalse(testCache.isValid("bad", key -> loads.incrementAndGet() < 0));
+    assertFalse(testCache.isValid("bad", key -> loads.incrementAndGet() < 0));
+    assertEquals(2, loads.get());
+    assertEquals(2, testCache.getHitCount());
+    assertEquals(2, testCache.getMissCount());
+  }
+
+  /**
+   * Tests that the least recently used key is evicted once the cache is full.
+   */
+  @Test
+  public void evictionTest() {
+    testCache.put("a", true);
+    testCache.put("b", true);
+    testCache.get("a");
+    testCache.put("c", true);
+    assertEquals(2, testCache.size());
+    assertNull(testCache.get("b"));
+    assertEquals(Boolean.TRUE, testCache.get("a"));
+  }
+
+  /**
+   * Tests that entries expire after their time to live.
+   */
+  @Test
+  public void expirationTest() throws InterruptedException {
+    ApiKeyCache shortCache = new ApiKeyCache(10, 1);
+    shortCache.put("a", true);
+    Thread.sleep(5);
+    assertNull(shortCache.get("a"));
+    assertEquals(0, shortCache.size());
+  }
+
+  /**
+   * Tests that invalidated keys are reloaded.
+   */
+  @Test
+  public void invalidateTest() {
+    testCache.put("a", false);
+    testCache.invalidate("a");
+    assertNull(testCache.get("a"));
+
+    testCache.put("b", true);
+    testCache.invalidateAll();
+    assertEquals(0, testCache.size());
+  }
+
+  /**
+   * Tests that a key invalidated while it loads is not cached from the stale load.
+   */
+  @Test
+  public void invalidateDuringLoadTest() {
+    assertTrue(testCache.isValid("a", key -> {
+      testCache.invalidate(key);
+      return true;
+    }));
+    assertNull(testCache.get("a"));
+    assertFalse(testCache.isValid("a", key -> false));
+    assertEquals(Boolean.FALSE, testCache.get("a"));
+  }
+}
@@ -0,0 +1,75 @@
+package com.smartprogrammingbaddies.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smartprogrammingbaddies.client.Client;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the ApiKeyPrincipal class.
+ */
+public class ApiKeyPrincipalUnitTests {
+
+  private AtomicInteger verifications;
+  private AtomicInteger clientLookups;
+  private Client testClient;
+
+  /**
+   * Resets the lookup counters before each test.
+   */
+  @BeforeEach
+  public void setupPrincipalForTesting() {
+    verifications = new AtomicInteger();
+    clientLookups = new AtomicInteger();
+    testClient = new Client("good");
+  }
+
+  private ApiKeyPrincipal principalFor(String apiKey) {
+    return new ApiKeyPrincipal(apiKey,
+        key -> verifications.incrementAndGet() > 0 && key.equals("good"),
+        key -> {
+          clientLookups.incrementAndGet();
+          return testClient;
+        });
+  }
+
+  /**
+   * Tests that verification and the client lookup run at most once.
+   */
+  @Test
+  public void resolvesOnceTest() {
+    ApiKeyPrincipal principal = principalFor("good");
+    assertTrue(principal.isValid());
+    assertEquals(testClient, principal.getClient());
+    assertEquals(testClient, principal.getClient());
+    assertNull(principal.getOrganization());
+    assertEquals(1, verifications.get());
+    assertEquals(1, clientLookups.get());
+  }
+
+  /**
+   * Tests that an invalid key never triggers a client lookup.
+   */
+  @Test
+  public void invalidKeyTest() {
+    ApiKeyPrincipal principal = principalFor("bad");
+    assertFalse(principal.isValid());
+    assertNull(principal.getClient());
+    assertEquals(0, clientLookups.get());
+  }
+
+  /**
+   * Tests that a blank key is rejected without verification.
+   */
+  @Test
+  public void blankKeyTest() {
+    ApiKeyPrincipal principal = principalFor(" ");
+    assertFalse(principal.isValid());
+    assertEquals(0, verifications.get());
+  }
+}
@@ -165,6 +165,19 @@ public class ItemIdUnitTests {
     assertEquals(false, testItemId.equals("testObject"));
   }
 
+  /**
+   * Tests that items with the same type and name at different storage centers are not equal.
+   */
+  @Test
+  public void storageCenterEqualsTest() {
+    ItemId centerOne = new ItemId(1, "FOOD", testName);
+    assertEquals(1, centerOne.getStorageCenterId());
+    assertEquals(centerOne, new ItemId(1, "FOOD", testName));
+    assertEquals(centerOne.hashCode(), new ItemId(1, "FOOD", testName).hashCode());
+    ItemId centerTwo = new ItemId(2, "FOOD", testName);
+    assertEquals(false, centerOne.equals(centerTwo));
+  }
+
   /**
    * Tests the hashCode method to verify the hash code is correct.
    */
@@ -245,4 +245,26 @@ public class ItemUnitTests {
     assertEquals(false, testCenter.equals(null));
     assertEquals(false, testItem.equals("testObject"));
   }
+
+  /**
+   * Tests the equals and hashCode methods with items that never expire.
+   */
+  @Test
+  public void equalsNoExpirationDateTest() throws ParseException {
+    Item testItem2 = new Item(testItemId, 10, testCenter, null);
+    Item testItem3 = new Item(testItemId, 10, testCenter, "");
+    assertEquals(testItem2, testItem3);
+    assertEquals(testItem2.hashCode(), testItem3.hashCode());
+    assertEquals(false, testItem.equals(testItem2));
+    assertEquals(false, testItem2.equals(testItem));
+  }
+
+  /**
+   * Tests the isExpired method against a given date.
+   */
+  @Test
+  public void isExpiredOnDateTest() {
+    assertEquals(false, testItem.isExpired(LocalDate.of(2026, 12, 31)));
+    assertEquals(true, testItem.isExpired(LocalDate.of(2027, 1, 1)));
+  }
 }
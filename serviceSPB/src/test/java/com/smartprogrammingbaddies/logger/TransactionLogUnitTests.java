@@ -0,0 +1,197 @@
+package com.smartprogrammingbaddies.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.storagecenter.StorageCenter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for the TransactionLog class.
+ */
+public class TransactionLogUnitTests {
+
+  private TransactionRepository transactionRepository;
+  private PlatformTransactionManager transactionManager;
+  private TransactionLog log;
+
+  /**
+   * Sets up the mocked repository and transaction manager.
+   */
+  @BeforeEach
+  public void setupLogForTesting() {
+    transactionRepository = mock(TransactionRepository.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+  }
+
+  /**
+   * Stops the log's writer thread after each test.
+   */
+  @AfterEach
+  public void tearDown() {
+    if (log != null) {
+      log.close();
+    }
+  }
+
+  private static List<Transaction> transactions(int count) {
+    StorageCenter center = new StorageCenter("CUFP", "Food Pantry");
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ItemId itemId = new ItemId(1, "FOOD", "Item " + i);
+      transactions.add(new Transaction(center, itemId, 1, "Check In"));
+    }
+    return transactions;
+  }
+
+  /**
+   * Tests that transactions are saved directly when write-behind is off.
+   */
+  @Test
+  public void directTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, false, 10, 5, 50, 0);
+    Transaction transaction = transactions(1).get(0);
+    log.record(transaction);
+    verify(transactionRepository).save(transaction);
+    List<Transaction> batch = transactions(2);
+    log.recordAll(batch);
+    verify(transactionRepository).saveAll(batch);
+  }
+
+  /**
+   * Tests that queued transactions are written in batches of at most the batch size.
+   */
+  @Test
+  public void batchSizeTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 3, 60_000,
+        0);
+    List<Transaction> transactions = transactions(3);
+    log.recordAll(transactions);
+    verify(transactionRepository, timeout(5000)).saveAll(transactions);
+  }
+
+  /**
+   * Tests that a partial batch is written once the flush interval passes.
+   */
+  @Test
+  public void flushIntervalTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 50, 20, 0);
+    Transaction transaction = transactions(1).get(0);
+    log.record(transaction);
+    verify(transactionRepository, timeout(5000)).saveAll(List.of(transaction));
+    verify(transactionRepository, never()).save(transaction);
+  }
+
+  /**
+   * Tests that the caller writes its own transactions when the ring is full, so none are lost.
+   */
+  @Test
+  public void fullRingTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 1, 10, 60_000, 0);
+    log.recordAll(transactions(30));
+    log.close();
+    assertEquals(30, written().size());
+    assertEquals(0, log.getPending());
+  }
+
+  /**
+   * Tests that closing writes every queued transaction and later ones are written directly.
+   */
+  @Test
+  public void closeTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 50, 60_000,
+        0);
+    List<Transaction> transactions = transactions(4);
+    log.recordAll(transactions);
+    log.close();
+    assertEquals(0, log.getPending());
+    assertEquals(transactions, written());
+
+    List<Transaction> late = transactions(1);
+    log.recordAll(late);
+    verify(transactionRepository).saveAll(late);
+  }
+
+  /**
+   * Tests that the written-before time stays behind a queued transaction until it is
+   * written.
+   */
+  @Test
+  public void writtenBeforeTest() throws Exception {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 50, 60_000,
+        0);
+    log.record(transactions(1).get(0));
+    Instant recorded = Instant.now();
+    Thread.sleep(50);
+    assertTrue(log.getWrittenBefore().isBefore(recorded));
+    log.close();
+    assertFalse(log.getWrittenBefore().isBefore(recorded));
+  }
+
+  /**
+   * Tests that a batch whose first write fails is retried and every transaction lands.
+   */
+  @Test
+  public void retryTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 50, 60_000,
+        0);
+    doThrow(new IllegalStateException("Connection reset"))
+        .doReturn(List.of())
+        .when(transactionRepository).saveAll(any());
+    List<Transaction> transactions = transactions(4);
+    log.recordAll(transactions);
+    log.close();
+    verify(transactionRepository, times(2)).saveAll(transactions);
+    assertEquals(0, log.getFailedWrites());
+  }
+
+  /**
+   * Tests that a batch that keeps failing is written one transaction at a time and only
+   * the transactions that still fail are lost and counted.
+   */
+  @Test
+  public void rowByRowTest() {
+    log = new TransactionLog(transactionRepository, transactionManager, true, 100, 50, 60_000,
+        0);
+    List<Transaction> transactions = transactions(3);
+    doThrow(new IllegalStateException("Data too long"))
+        .when(transactionRepository).saveAll(any());
+    doThrow(new IllegalStateException("Data too long"))
+        .when(transactionRepository).save(argThat(t -> "Item 1".equals(t.getItemName())));
+    log.recordAll(transactions);
+    log.close();
+    verify(transactionRepository, times(3)).saveAll(transactions);
+    ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+    verify(transactionRepository, times(3)).save(captor.capture());
+    assertEquals(transactions, captor.getAllValues());
+    assertEquals(1, log.getFailedWrites());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Transaction> written() {
+    ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transactionRepository, atLeastOnce()).saveAll(captor.capture());
+    List<Transaction> written = new ArrayList<>();
+    captor.getAllValues().forEach(written::addAll);
+    return written;
+  }
+}
@@ -0,0 +1,137 @@
+package com.smartprogrammingbaddies.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests of TransactionPartitions against the H2 database. The tests run outside a test
+ * transaction, since the rollover commits its own transactions and DDL. The rollover
+ * chunk size does not divide a month's rows, so every month is moved in several chunks.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"spring.cloud.gcp.core.enabled=false",
+    "spring.cloud.gcp.storage.enabled=false", "spring.cloud.gcp.sql.enabled=false",
+    "transaction.rollover.chunk-size=7"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TransactionPartitions.class)
+public class TransactionPartitionsTests {
+  private static final int ROWS_PER_MONTH = 20;
+
+  @Autowired
+  private TransactionPartitions transactionPartitions;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private int nextId = 1;
+
+  /**
+   * Drops the monthly tables and empties the live table after each test.
+   */
+  @AfterEach
+  public void tearDown() {
+    for (YearMonth month : transactionPartitions.sealedMonths()) {
+      execute("DROP TABLE " + TransactionPartitions.tableName(month));
+    }
+    execute("DELETE FROM Transaction");
+  }
+
+  /**
+   * Tests that two instances rolling over at once move every row exactly once.
+   */
+  @Test
+  public void concurrentRolloverTest() throws Exception {
+    insert(YearMonth.of(2024, 1));
+    insert(YearMonth.of(2024, 2));
+
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService instances = Executors.newFixedThreadPool(2);
+    List<Future<Integer>> rollovers = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      rollovers.add(instances.submit(() -> {
+        start.await();
+        return transactionPartitions.rollover(YearMonth.of(2024, 3));
+      }));
+    }
+    start.countDown();
+    int moved = 0;
+    for (Future<Integer> rollover : rollovers) {
+      moved += rollover.get();
+    }
+    instances.shutdown();
+
+    assertEquals(2 * ROWS_PER_MONTH, moved);
+    assertEquals(0L, count("Transaction"));
+    assertEquals(ROWS_PER_MONTH, count("transaction_202401"));
+    assertEquals(ROWS_PER_MONTH, count("transaction_202402"));
+  }
+
+  /**
+   * Tests that rows logged late are appended to their month's table and that retention
+   * drops the table once but runs the drop listeners every time.
+   */
+  @Test
+  public void lateRowsTest() {
+    AtomicInteger retentionRuns = new AtomicInteger();
+    transactionPartitions.addDropListener(retentionRuns::incrementAndGet);
+    insert(YearMonth.of(2024, 1));
+    transactionPartitions.rollover(YearMonth.of(2024, 2));
+    insert(YearMonth.of(2024, 1));
+
+    assertEquals(ROWS_PER_MONTH, transactionPartitions.rollover(YearMonth.of(2024, 2)));
+    assertEquals(2L * ROWS_PER_MONTH, count("transaction_202401"));
+    assertEquals(List.of(YearMonth.of(2024, 1)),
+        transactionPartitions.dropExpired(YearMonth.of(2026, 2)));
+    assertTrue(transactionPartitions.dropExpired(YearMonth.of(2026, 2)).isEmpty());
+    assertEquals(2, retentionRuns.get());
+  }
+
+  private void insert(YearMonth month) {
+    Instant start = month.atDay(1).atStartOfDay(TransactionPartitions.ZONE).toInstant();
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      for (int i = 0; i < ROWS_PER_MONTH; i++) {
+        entityManager.createNativeQuery("INSERT INTO Transaction (transaction_id, timestamp,"
+            + " storage_center_id, itemName, itemType, quantity, action)"
+            + " VALUES (:id, :timestamp, 1, 'Rice', 'FOOD', 1, 'Check In')")
+            .setParameter("id", nextId++)
+            .setParameter("timestamp", start.plusSeconds(3600L * i))
+            .executeUpdate();
+      }
+    });
+  }
+
+  private long count(String table) {
+    return ((Number) new TransactionTemplate(transactionManager).execute(status ->
+        entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult()))
+        .longValue();
+  }
+
+  private void execute(String sql) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        entityManager.createNativeQuery(sql).executeUpdate());
+  }
+}
@@ -0,0 +1,95 @@
+package com.smartprogrammingbaddies.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Unit tests for the TransactionPartitions class.
+ */
+public class TransactionPartitionsUnitTests {
+
+  /**
+   * Tests that a month's table name and the month of a table name match.
+   */
+  @Test
+  public void tableNameTest() {
+    assertEquals("transaction_202409", TransactionPartitions.tableName(YearMonth.of(2024, 9)));
+    assertEquals(YearMonth.of(2024, 9), TransactionPartitions.monthOf("transaction_202409"));
+    assertEquals(YearMonth.of(2024, 12), TransactionPartitions.monthOf("TRANSACTION_202412"));
+  }
+
+  /**
+   * Tests that other tables are not taken for monthly tables.
+   */
+  @Test
+  public void otherTableTest() {
+    assertNull(TransactionPartitions.monthOf("Transaction"));
+    assertNull(TransactionPartitions.monthOf("transaction_seq"));
+    assertNull(TransactionPartitions.monthOf("inventory_total"));
+  }
+
+  /**
+   * Tests that the retention must keep at least one month.
+   */
+  @Test
+  public void retentionTest() {
+    assertThrows(IllegalArgumentException.class, () -> new TransactionPartitions(
+        mock(EntityManager.class), mock(PlatformTransactionManager.class), 0, 1000));
+  }
+
+  /**
+   * Tests that the rollover must move at least one row at a time.
+   */
+  @Test
+  public void chunkSizeTest() {
+    assertThrows(IllegalArgumentException.class, () -> new TransactionPartitions(
+        mock(EntityManager.class), mock(PlatformTransactionManager.class), 24, 0));
+  }
+
+  /**
+   * Tests that sums are read in a transaction that is not read-only, so they are never read
+   * from a lagging read replica.
+   */
+  @Test
+  public void sumByPeriodOnPrimaryTest() {
+    EntityManager entityManager = mock(EntityManager.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    Session session = mock(Session.class);
+    Query query = mock(Query.class);
+    when(entityManager.unwrap(Session.class)).thenReturn(session);
+    when(session.doReturningWork(any())).thenReturn(new TreeSet<YearMonth>());
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.setParameter(anyString(), any())).thenReturn(query);
+    when(query.getResultList()).thenReturn(List.of());
+    TransactionPartitions partitions =
+        new TransactionPartitions(entityManager, transactionManager, 24, 1000);
+
+    partitions.sumByPeriod(1, List.of(Instant.parse("2024-01-01T00:00:00Z"),
+        Instant.parse("2024-01-02T00:00:00Z")));
+    ArgumentCaptor<TransactionDefinition> definition =
+        ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager, atLeastOnce())
+        .getTransaction(definition.capture());
+    definition.getAllValues().forEach(value -> assertFalse(value.isReadOnly()));
+  }
+}
@@ -0,0 +1,70 @@
+package com.smartprogrammingbaddies.logger;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests of TransactionSchemaMigration against the H2 database. The tests run outside a
+ * test transaction, since they change the schema.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"spring.cloud.gcp.core.enabled=false",
+    "spring.cloud.gcp.storage.enabled=false", "spring.cloud.gcp.sql.enabled=false"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TransactionSchemaMigration.class)
+public class TransactionSchemaMigrationTests {
+  @Autowired
+  private TransactionSchemaMigration transactionSchemaMigration;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  /**
+   * Tests that the migration script ships with the app.
+   */
+  @Test
+  public void scriptTest() {
+    assertNotNull(getClass().getClassLoader().getResource(TransactionSchemaMigration.SCRIPT));
+  }
+
+  /**
+   * Tests that a table created by Hibernate with the current schema is left alone.
+   */
+  @Test
+  public void currentSchemaTest() {
+    assertFalse(transactionSchemaMigration.migrate());
+  }
+
+  /**
+   * Tests that a table with the old date column is reported on a database other than MySQL.
+   */
+  @Test
+  public void legacySchemaTest() {
+    execute("ALTER TABLE Transaction ADD COLUMN date DATE");
+    try {
+      assertThrows(IllegalStateException.class, () -> transactionSchemaMigration.migrate());
+    } finally {
+      execute("ALTER TABLE Transaction DROP COLUMN date");
+    }
+  }
+
+  private void execute(String ddl) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        entityManager.createNativeQuery(ddl).executeUpdate());
+  }
+}
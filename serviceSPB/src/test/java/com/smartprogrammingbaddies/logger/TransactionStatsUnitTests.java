@@ -0,0 +1,153 @@
+package com.smartprogrammingbaddies.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for the TransactionStats class.
+ */
+public class TransactionStatsUnitTests {
+  private static final ZoneId UTC = ZoneOffset.UTC;
+  private static final Instant TODAY = Instant.parse("2024-01-10T00:00:00Z");
+
+  private TransactionPartitions transactionPartitions;
+  private TransactionLog transactionLog;
+  private TransactionStats transactionStats;
+
+  /**
+   * Sets up the stats over a mocked transaction log.
+   */
+  @BeforeEach
+  public void setUp() {
+    transactionPartitions = mock(TransactionPartitions.class);
+    transactionLog = mock(TransactionLog.class);
+    transactionStats = new TransactionStats(transactionPartitions, transactionLog, 2);
+  }
+
+  /**
+   * Tests that the rows of each period are added up by item type and action.
+   */
+  @Test
+  public void sumTest() {
+    when(transactionPartitions.sumByPeriod(anyInt(), anyList())).thenReturn(List.of(
+        new Object[] {0, "FOOD", "Check In", 5L},
+        new Object[] {0, "FOOD", "Remove Expired Item", 2L},
+        new Object[] {1, "TOOLS", "Check Out", 1L}));
+
+    List<PeriodFlows> periods = transactionStats.find(1, LocalDate.of(2024, 1, 1),
+        LocalDate.of(2024, 1, 2), TransactionStats.Granularity.DAY, TODAY, UTC);
+    assertEquals(2, periods.size());
+    assertEquals(5, periods.get(0).getTypes().get("FOOD").getCheckedIn());
+    assertEquals(2, periods.get(0).getTypes().get("FOOD").getExpiredRemoved());
+    assertEquals(1, periods.get(1).getTypes().get("TOOLS").getCheckedOut());
+    assertEquals(LocalDate.of(2024, 1, 2), periods.get(1).getEnd());
+  }
+
+  /**
+   * Tests that weeks start on Monday and cover the dates at both ends.
+   */
+  @Test
+  public void weekTest() {
+    List<PeriodFlows> periods = transactionStats.find(1, LocalDate.of(2024, 1, 3),
+        LocalDate.of(2024, 1, 8), TransactionStats.Granularity.WEEK, TODAY, UTC);
+    assertEquals(2, periods.size());
+    assertEquals(LocalDate.of(2024, 1, 1), periods.get(0).getStart());
+    assertEquals(LocalDate.of(2024, 1, 7), periods.get(0).getEnd());
+    assertEquals(LocalDate.of(2024, 1, 8), periods.get(1).getStart());
+    verify(transactionPartitions).sumByPeriod(1, List.of(Instant.parse("2024-01-01T00:00:00Z"),
+        Instant.parse("2024-01-08T00:00:00Z"), Instant.parse("2024-01-15T00:00:00Z")));
+  }
+
+  /**
+   * Tests that closed periods are read once and open periods every time.
+   */
+  @Test
+  public void closedPeriodCacheTest() {
+    transactionStats.find(1, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 10),
+        TransactionStats.Granularity.DAY, TODAY, UTC);
+    transactionStats.find(1, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 10),
+        TransactionStats.Granularity.DAY, TODAY, UTC);
+    assertEquals(2, transactionStats.size());
+    assertEquals(2, transactionStats.getHits());
+    verify(transactionPartitions).sumByPeriod(1, List.of(Instant.parse("2024-01-10T00:00:00Z"),
+        Instant.parse("2024-01-11T00:00:00Z")));
+  }
+
+  /**
+   * Tests that a period that has ended stays open while the log still queues transactions
+   * from before its end.
+   */
+  @Test
+  public void queuedTransactionsTest() {
+    when(transactionLog.getWrittenBefore()).thenReturn(Instant.parse("2024-01-09T23:59:59Z"));
+    transactionStats.find(1, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 9),
+        TransactionStats.Granularity.DAY);
+    assertEquals(1, transactionStats.size());
+
+    when(transactionLog.getWrittenBefore()).thenReturn(TODAY);
+    transactionStats.find(1, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 9),
+        TransactionStats.Granularity.DAY);
+    assertEquals(2, transactionStats.size());
+    verify(transactionPartitions).sumByPeriod(1, List.of(Instant.parse("2024-01-09T00:00:00Z"),
+        Instant.parse("2024-01-10T00:00:00Z")));
+  }
+
+  /**
+   * Tests that the cache is cleared when the retention drops monthly tables.
+   */
+  @Test
+  public void dropTest() {
+    transactionStats.find(1, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 9),
+        TransactionStats.Granularity.DAY, TODAY, UTC);
+    assertEquals(2, transactionStats.size());
+    ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+    verify(transactionPartitions).addDropListener(listener.capture());
+    listener.getValue().run();
+    assertEquals(0, transactionStats.size());
+  }
+
+  /**
+   * Tests that the least recently used period is evicted once the cache is full.
+   */
+  @Test
+  public void evictionTest() {
+    transactionStats.find(1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3),
+        TransactionStats.Granularity.DAY, TODAY, UTC);
+    assertEquals(2, transactionStats.size());
+    transactionStats.find(1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1),
+        TransactionStats.Granularity.DAY, TODAY, UTC);
+    verify(transactionPartitions).sumByPeriod(1,
+        List.of(Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-02T00:00:00Z")));
+  }
+
+  /**
+   * Tests that a reversed or too long range and an unknown granularity are rejected.
+   */
+  @Test
+  public void invalidRangeTest() {
+    assertThrows(IllegalArgumentException.class, () -> transactionStats.find(1,
+        LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1), TransactionStats.Granularity.DAY,
+        TODAY, UTC));
+    assertThrows(IllegalArgumentException.class, () -> transactionStats.find(1,
+        LocalDate.of(2022, 1, 1), LocalDate.of(2024, 1, 1), TransactionStats.Granularity.DAY,
+        TODAY, UTC));
+    assertThrows(IllegalArgumentException.class,
+        () -> TransactionStats.Granularity.parse("month"));
+    assertThrows(IllegalArgumentException.class, () -> new TransactionStats(
+        transactionPartitions, transactionLog, 0));
+  }
+}
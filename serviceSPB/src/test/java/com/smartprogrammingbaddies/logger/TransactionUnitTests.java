@@ -44,6 +44,18 @@ public class TransactionUnitTests {
     assertEquals("Check Out", testTransaction.getAction());
   }
 
+  /**
+   * Tests the Transaction constructor that takes an item ID.
+   */
+  @Test
+  public void testTransactionItemIdConstructor() {
+    testTransaction = new Transaction(testCenter, testItemId, 5, "Check In");
+    assertEquals("Test Item", testTransaction.getItemName());
+    assertEquals("FOOD", testTransaction.getItemType());
+    assertEquals(5, testTransaction.getQuantity());
+    assertEquals("Check In", testTransaction.getAction());
+  }
+
   /**
    * Tests the Transaction constructor with invalid values.
    */
@@ -53,7 +65,10 @@ public class TransactionUnitTests {
           () -> new Transaction(null, testItem, 10, "Check Out"));
 
     assertThrows(IllegalArgumentException.class,
-          () -> new Transaction(testCenter, null, 10, "Check Out"));
+          () -> new Transaction(testCenter, (Item) null, 10, "Check Out"));
+
+    assertThrows(IllegalArgumentException.class,
+          () -> new Transaction(testCenter, (ItemId) null, 10, "Check Out"));
 
     assertThrows(IllegalArgumentException.class,
           () -> new Transaction(testCenter, testItem, -1, "Check Out"));
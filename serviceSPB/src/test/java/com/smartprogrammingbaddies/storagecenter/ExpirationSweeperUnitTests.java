@@ -0,0 +1,162 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for the ExpirationSweeper class.
+ */
+public class ExpirationSweeperUnitTests {
+
+  private StorageCenterRepository storageCenterRepository;
+  private InventoryService inventoryService;
+  private DataSource dataSource;
+  private Connection connection;
+  private DatabaseMetaData metaData;
+  private ExpirationSweeper sweeper;
+
+  /**
+   * Sets up a sweeper that reads two storage centers at a time, on a database without
+   * named locks.
+   *
+   * @throws SQLException never, the database is mocked
+   */
+  @BeforeEach
+  public void setupSweeperForTesting() throws SQLException {
+    storageCenterRepository = mock(StorageCenterRepository.class);
+    inventoryService = mock(InventoryService.class);
+    dataSource = mock(DataSource.class);
+    connection = mock(Connection.class);
+    metaData = mock(DatabaseMetaData.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(metaData.getDatabaseProductName()).thenReturn("H2");
+    sweeper = new ExpirationSweeper(storageCenterRepository, inventoryService, dataSource, 2, 2);
+  }
+
+  /**
+   * Stops the sweeper's threads after each test.
+   */
+  @AfterEach
+  public void tearDown() {
+    sweeper.shutdown();
+  }
+
+  /**
+   * Tests that every storage center is swept in chunks and the metrics are recorded.
+   */
+  @Test
+  public void sweepTest() {
+    when(storageCenterRepository.findIdsAfter(0, PageRequest.of(0, 2))).thenReturn(List.of(1, 2));
+    when(storageCenterRepository.findIdsAfter(2, PageRequest.of(0, 2))).thenReturn(List.of(5));
+    when(inventoryService.removeExpired(1)).thenReturn(3);
+    when(inventoryService.removeExpired(2)).thenReturn(0);
+    when(inventoryService.removeExpired(5)).thenReturn(4);
+
+    SweepStats stats = sweeper.sweep();
+    assertEquals(3, stats.getCentersScanned());
+    assertEquals(7, stats.getItemsPurged());
+    assertEquals(0, stats.getFailures());
+    assertNotNull(stats.getStartedAt());
+    assertEquals(stats, sweeper.getLastRun());
+    verify(inventoryService).removeExpired(5);
+  }
+
+  /**
+   * Tests that a failing storage center is counted without stopping the sweep.
+   */
+  @Test
+  public void sweepFailureTest() {
+    when(storageCenterRepository.findIdsAfter(0, PageRequest.of(0, 2))).thenReturn(List.of(1, 2));
+    when(storageCenterRepository.findIdsAfter(2, PageRequest.of(0, 2))).thenReturn(List.of());
+    when(inventoryService.removeExpired(1)).thenThrow(new RuntimeException());
+    when(inventoryService.removeExpired(2)).thenReturn(6);
+
+    SweepStats stats = sweeper.sweep();
+    assertEquals(2, stats.getCentersScanned());
+    assertEquals(6, stats.getItemsPurged());
+    assertEquals(1, stats.getFailures());
+  }
+
+  /**
+   * Tests that an interrupted sweep records the centers swept up to then as the last run.
+   */
+  @Test
+  public void sweepInterruptedTest() {
+    when(storageCenterRepository.findIdsAfter(0, PageRequest.of(0, 2))).thenReturn(List.of(1, 2));
+
+    Thread.currentThread().interrupt();
+    SweepStats stats;
+    try {
+      stats = sweeper.sweep();
+    } finally {
+      assertTrue(Thread.interrupted());
+    }
+    assertNotNull(stats.getStartedAt());
+    assertEquals(0, stats.getCentersScanned());
+    assertEquals(stats, sweeper.getLastRun());
+  }
+
+  /**
+   * Tests that a run is skipped on MySQL while another instance holds the sweep lock.
+   *
+   * @throws SQLException never, the database is mocked
+   */
+  @Test
+  public void sweepLockedTest() throws SQLException {
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet result = mock(ResultSet.class);
+    when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(result);
+    when(result.next()).thenReturn(true);
+    when(result.getInt(1)).thenReturn(0);
+
+    SweepStats stats = sweeper.sweep();
+    assertNull(stats.getStartedAt());
+    verify(storageCenterRepository, never()).findIdsAfter(anyInt(), any());
+    verify(connection).close();
+  }
+
+  /**
+   * Tests that no run is reported before the first sweep.
+   */
+  @Test
+  public void noRunTest() {
+    assertNull(sweeper.getLastRun().getStartedAt());
+    assertEquals(0, sweeper.getLastRun().getCentersScanned());
+  }
+
+  /**
+   * Tests that the chunk size and number of threads must be positive.
+   */
+  @Test
+  public void invalidSettingsTest() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new ExpirationSweeper(storageCenterRepository, inventoryService, dataSource, 0, 2));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ExpirationSweeper(storageCenterRepository, inventoryService, dataSource, 2, 0));
+  }
+}
@@ -0,0 +1,75 @@
+package com.smartprogrammingbaddies.storagecenter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.logger.TransactionLog;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests of InventoryService.removeExpired against the H2 database.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"spring.cloud.gcp.core.enabled=false",
+    "spring.cloud.gcp.storage.enabled=false", "spring.cloud.gcp.sql.enabled=false"})
+@Import({InventoryService.class, TransactionLog.class})
+public class RemoveExpiredTests {
+  @Autowired
+  private InventoryService inventoryService;
+
+  @Autowired
+  private StorageCenterRepository storageCenterRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  /**
+   * Tests that only the expired items of the center are logged and removed.
+   */
+  @Test
+  public void removeExpiredTest() throws Exception {
+    StorageCenter center = storageCenterRepository.save(new StorageCenter("CUFP", "Pantry"));
+    StorageCenter other = storageCenterRepository.save(new StorageCenter("Other", "Pantry"));
+    int id = center.getDatabaseId();
+    inventoryService.checkIn(center, new ItemId(id, "FOOD", "Milk"), 2, "2020-01-01");
+    inventoryService.checkIn(center, new ItemId(id, "FOOD", "Eggs"), 3, "2020-01-02");
+    inventoryService.checkIn(center, new ItemId(id, "FOOD", "Rice"), 4, "2099-01-01");
+    inventoryService.checkIn(other, new ItemId(other.getDatabaseId(), "FOOD", "Milk"), 2,
+        "2020-01-01");
+
+    assertEquals(2, inventoryService.removeExpired(id));
+    assertEquals(2L, entityManager.createQuery("SELECT COUNT(t) FROM Transaction t "
+        + "WHERE t.storageCenterId = :id AND t.action = 'Remove Expired Item'")
+        .setParameter("id", id).getSingleResult());
+    assertEquals(1L, entityManager.createQuery("SELECT COUNT(i) FROM Item i "
+        + "WHERE i.itemType.storageCenterId = :id").setParameter("id", id).getSingleResult());
+    assertEquals(1L, entityManager.createQuery("SELECT COUNT(i) FROM Item i "
+        + "WHERE i.itemType.storageCenterId = :id")
+        .setParameter("id", other.getDatabaseId()).getSingleResult());
+  }
+
+  /**
+   * Tests that Hibernate still cannot bind parameters in an INSERT ... SELECT into
+   * Transaction, whose pooled sequence IDs are assigned through a temporary table: it
+   * fails an assertion, or throws a NullPointerException without assertions. Once this
+   * test fails, the center and date of the expired items log can be bound instead.
+   */
+  @Test
+  public void insertSelectParametersTest() {
+    assertThrows(Throwable.class, () -> entityManager.createQuery("INSERT INTO Transaction "
+        + "(timestamp, storageCenterId, itemName, itemType, quantity, action) "
+        + "SELECT instant, i.itemType.storageCenterId, i.itemType.name, 'FOOD', i.quantity, "
+        + "'Remove Expired Item' FROM Item i WHERE i.itemType.storageCenterId = :id "
+        + "AND i.expirationDate < :today")
+        .setParameter("id", 1)
+        .setParameter("today", LocalDate.now())
+        .executeUpdate());
+  }
+}
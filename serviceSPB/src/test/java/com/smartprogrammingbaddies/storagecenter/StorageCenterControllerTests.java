@@ -1,33 +1,79 @@
 package com.smartprogrammingbaddies.storagecenter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.smartprogrammingbaddies.auth.ApiKeyCache;
+import com.smartprogrammingbaddies.auth.ApiKeyRepository;
+import com.smartprogrammingbaddies.client.ClientRepository;
+import com.smartprogrammingbaddies.item.InventoryTotal;
+import com.smartprogrammingbaddies.item.InventoryTotalId;
+import com.smartprogrammingbaddies.item.InventoryTotalRepository;
 import com.smartprogrammingbaddies.item.Item;
 import com.smartprogrammingbaddies.item.ItemId;
+import com.smartprogrammingbaddies.item.ItemId.ItemType;
 import com.smartprogrammingbaddies.item.ItemRepository;
+import com.smartprogrammingbaddies.item.ItemSummary;
 import com.smartprogrammingbaddies.logger.Transaction;
+import com.smartprogrammingbaddies.logger.TransactionLog;
+import com.smartprogrammingbaddies.logger.TransactionPartitions;
 import com.smartprogrammingbaddies.logger.TransactionRepository;
+import com.smartprogrammingbaddies.logger.TransactionStats;
+import com.smartprogrammingbaddies.utils.TimeSlot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * API endpoint tests for the StorageCenterController class.
  */
 @ActiveProfiles("test")
+@Import({ApiKeyCache.class, InventoryService.class, TransactionLog.class,
+    TransactionStats.class})
 @WebMvcTest(StorageCenterController.class)
 public class StorageCenterControllerTests {
   @Autowired
@@ -39,9 +85,21 @@ public class StorageCenterControllerTests {
   @MockBean
   private ItemRepository itemRepository;
 
+  @MockBean
+  private InventoryTotalRepository inventoryTotalRepository;
+
   @MockBean
   private TransactionRepository transactionRepository;
 
+  @MockBean
+  private TransactionPartitions transactionPartitions;
+
+  @MockBean
+  private ApiKeyRepository apiKeyRepository;
+
+  @MockBean
+  private ClientRepository clientRepository;
+
   @MockBean
   private Item item;
 
@@ -51,6 +109,15 @@ public class StorageCenterControllerTests {
   @MockBean
   private Transaction transaction;
 
+  @MockBean
+  private EntityManager entityManager;
+
+  @MockBean
+  private ExpirationSweeper expirationSweeper;
+
+  @MockBean
+  private PlatformTransactionManager transactionManager;
+
   /**
    * Sets up the tests objects and mocked repository actions.
    *
@@ -61,14 +128,21 @@ public class StorageCenterControllerTests {
     StorageCenter testCenter = new StorageCenter("CUFP", "Food Pantry");
     when(storageCenterRepository.save(any(StorageCenter.class))).thenReturn(testCenter);
     when(storageCenterRepository.findById(1)).thenReturn(Optional.of(testCenter));
+    when(storageCenterRepository.findWithHoursById(1)).thenReturn(Optional.of(testCenter));
+    when(entityManager.contains(testCenter)).thenReturn(true);
 
-    ItemId itemId = new ItemId("FOOD", "Canned Beans");
+    ItemId itemId = new ItemId(1, "FOOD", "Canned Beans");
     Item testItem = new Item(itemId, 10, testCenter, "2024-01-01");
     when(itemRepository.save(any(Item.class))).thenReturn(testItem);
     when(itemRepository.findById(itemId)).thenReturn(Optional.of(testItem));
+    when(itemRepository.existsById(itemId)).thenReturn(true);
+    when(itemRepository.incrementQuantity(eq(itemId), anyInt())).thenReturn(1);
+    when(itemRepository.decrementQuantity(eq(itemId), intThat(q -> q <= 10))).thenReturn(1);
 
-    ItemId itemId2 = new ItemId("FOOD", "Canned Corn");
+    ItemId itemId2 = new ItemId(1, "FOOD", "Canned Corn");
     when(itemRepository.findById(itemId2)).thenReturn(Optional.empty());
+    when(itemRepository.findInventory(anyInt(), any(), any(), any()))
+        .thenReturn(new SliceImpl<>(List.of()));
   }
 
   /**
@@ -127,13 +201,14 @@ public class StorageCenterControllerTests {
   }
 
   /**
-   * Test the deleteCenter method.
+   * Test the deleteCenter method, which unlinks the center's organization first.
    */
   @Test
   public void testDeleteCenter() throws Exception {
     ResultActions result = mockMvc.perform(delete("/deleteCenter")
               .param("storageCenterId", "1"));
     result.andExpect(status().isOk());
+    verify(storageCenterRepository).unlinkOrganization(1);
   }
 
   /**
@@ -296,6 +371,160 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Test that checking in a stocked item updates its quantity in place and logs it.
+   */
+  @Test
+  public void testCheckInItemsAtomicUpdate() throws Exception {
+    mockMvc.perform(patch("/checkInItems")
+              .param("storageCenterId", "1")
+              .param("type", "FOOD")
+              .param("name", "Canned Beans")
+              .param("quantity", "10")
+              .param("expirationDate", "2024-01-01"))
+        .andExpect(status().isOk());
+    verify(itemRepository).incrementQuantity(new ItemId(1, "FOOD", "Canned Beans"), 10);
+    verify(itemRepository, never()).save(any(Item.class));
+    verify(transactionRepository, times(1)).save(any(Transaction.class));
+    verify(inventoryTotalRepository).addStock(1, ItemId.ItemType.FOOD, 10, 0, null);
+  }
+
+  /**
+   * Test that checking in a new item creates its type's total when there is none yet.
+   */
+  @Test
+  public void testCheckInItemsCreatesTotal() throws Exception {
+    mockMvc.perform(patch("/checkInItems")
+              .param("storageCenterId", "1")
+              .param("type", "FOOD")
+              .param("name", "Canned Corn")
+              .param("quantity", "10")
+              .param("expirationDate", "2024-01-01"))
+        .andExpect(status().isOk());
+    verify(inventoryTotalRepository).addStock(1, ItemId.ItemType.FOOD, 10, 1,
+        LocalDate.of(2024, 1, 1));
+    verify(entityManager).persist(argThat((Object entity) -> entity instanceof InventoryTotal
+        && ((InventoryTotal) entity).getSkuCount() == 1));
+  }
+
+  /**
+   * Test that the losing side of two concurrent first check-ins of an item is run again:
+   * its insert fails on the key the other check-in added, and the retry updates that row.
+   */
+  @Test
+  public void testCheckInItemsConcurrentFirstCheckIn() throws Exception {
+    ItemId newItem = new ItemId(1, "FOOD", "Canned Corn");
+    when(itemRepository.incrementQuantity(eq(newItem), anyInt())).thenReturn(0, 1);
+    doThrow(new DataIntegrityViolationException("Duplicate key"))
+        .when(entityManager).persist(any(Item.class));
+
+    mockMvc.perform(patch("/checkInItems")
+              .param("storageCenterId", "1")
+              .param("type", "FOOD")
+              .param("name", "Canned Corn")
+              .param("quantity", "10")
+              .param("expirationDate", "2024-01-01"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("Item quantity updated successfully"));
+    verify(itemRepository, times(2)).incrementQuantity(newItem, 10);
+    verify(entityManager, times(1)).persist(any(Item.class));
+    verify(transactionRepository, times(1)).save(any(Transaction.class));
+  }
+
+  /**
+   * Test that a check-in whose new inventory total loses the race with a concurrent
+   * check-in of the same type is run again and adds to the other check-in's total.
+   */
+  @Test
+  public void testCheckInItemsConcurrentFirstTotal() throws Exception {
+    when(inventoryTotalRepository.addStock(1, ItemId.ItemType.FOOD, 10, 0, null))
+        .thenReturn(0, 1);
+    doThrow(new DataIntegrityViolationException("Duplicate key"))
+        .when(entityManager).persist(any(InventoryTotal.class));
+
+    mockMvc.perform(patch("/checkInItems")
+              .param("storageCenterId", "1")
+              .param("type", "FOOD")
+              .param("name", "Canned Beans")
+              .param("quantity", "10")
+              .param("expirationDate", "2024-01-01"))
+        .andExpect(status().isOk());
+    verify(inventoryTotalRepository, times(2)).addStock(1, ItemId.ItemType.FOOD, 10, 0, null);
+    verify(entityManager, times(1)).persist(any(InventoryTotal.class));
+  }
+
+  /**
+   * Test that a batch check-in that loses the race to add a new item is run again and
+   * updates the item the other check-in added.
+   */
+  @Test
+  public void testCheckInItemsBatchConcurrentFirstCheckIn() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    Item added = new Item(new ItemId(center.getDatabaseId(), "FOOD", "Rice"), 3,
+        center, "2030-01-01");
+    when(itemRepository.lockByStorageCenterAndNames(anyInt(), any()))
+        .thenReturn(List.of()).thenReturn(List.of(added));
+    doThrow(new DataIntegrityViolationException("Duplicate key"))
+        .when(entityManager).persist(any(Item.class));
+    String lines = "[{\"type\": \"FOOD\", \"name\": \"Rice\", \"quantity\": 3,"
+        + " \"expirationDate\": \"2030-01-01\"}]";
+
+    mockMvc.perform(patch("/checkInItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(lines))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].outcome").value("UPDATED"));
+    assertEquals(6, added.getQuantity());
+  }
+
+  /**
+   * Test the batch checkInItems function with stocked, new and invalid lines.
+   */
+  @Test
+  public void testCheckInItemsBatch() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    Item stocked = new Item(new ItemId(center.getDatabaseId(), "FOOD", "Canned Beans"), 10,
+        center, "2024-01-01");
+    when(itemRepository.lockByStorageCenterAndNames(anyInt(), any()))
+        .thenReturn(List.of(stocked));
+    String lines = "[{\"type\": \"FOOD\", \"name\": \"Canned Beans\", \"quantity\": 5},"
+        + "{\"type\": \"FOOD\", \"name\": \"Rice\", \"quantity\": 3,"
+        + " \"expirationDate\": \"2030-01-01\"},"
+        + "{\"type\": \"INVALID\", \"name\": \"Rice\", \"quantity\": 3},"
+        + "{\"type\": \"FOOD\", \"name\": \"Pasta\", \"quantity\": 0}]";
+
+    ResultActions result = mockMvc.perform(patch("/checkInItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(lines));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$[1].outcome").value("ADDED"))
+        .andExpect(jsonPath("$[2].outcome").value("REJECTED"))
+        .andExpect(jsonPath("$[3].outcome").value("REJECTED"));
+    assertEquals(15, stocked.getQuantity());
+    verify(entityManager, times(1)).persist(any(Item.class));
+  }
+
+  /**
+   * Test the batch checkInItems function with an empty batch and an invalid id.
+   */
+  @Test
+  public void testCheckInItemsBatchInvalid() throws Exception {
+    ResultActions result = mockMvc.perform(patch("/checkInItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("[]"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(patch("/checkInItems/batch")
+              .param("storageCenterId", "2")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("[{\"type\": \"FOOD\", \"name\": \"Rice\", \"quantity\": 3}]"));
+    result.andExpect(status().isNotFound());
+  }
+
   /**
    * Test the checkInItems function with an invalid id.
    */
@@ -436,6 +665,85 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Test that checking out the last of an item removes it and logs the removal.
+   */
+  @Test
+  public void testCheckOutItemsRemovesEmptyItem() throws Exception {
+    ItemId itemId = new ItemId(1, "FOOD", "Canned Beans");
+    when(itemRepository.deleteIfEmpty(itemId)).thenReturn(1);
+    mockMvc.perform(patch("/checkOutItems")
+              .param("storageCenterId", "1")
+              .param("type", "FOOD")
+              .param("name", "Canned Beans")
+              .param("quantity", "10"))
+        .andExpect(status().isOk());
+    verify(transactionRepository).save(
+        argThat(t -> t.getAction().equals("Removed from inventory")));
+    verify(inventoryTotalRepository).takeStock(1, ItemId.ItemType.FOOD, 10, 1);
+    verify(inventoryTotalRepository).refreshNextExpiration(1, ItemId.ItemType.FOOD);
+  }
+
+  /**
+   * Test the batch checkOutItems function when every line can be filled.
+   */
+  @Test
+  public void testCheckOutItemsBatch() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    Item beans = new Item(new ItemId(center.getDatabaseId(), "FOOD", "Canned Beans"), 10,
+        center, "2024-01-01");
+    Item soap = new Item(new ItemId(center.getDatabaseId(), "TOILETRIES", "Soap"), 2,
+        center, null);
+    when(itemRepository.lockByStorageCenterAndNames(anyInt(), any()))
+        .thenReturn(List.of(beans, soap));
+    String lines = "[{\"type\": \"FOOD\", \"name\": \"Canned Beans\", \"quantity\": 4},"
+        + "{\"type\": \"TOILETRIES\", \"name\": \"Soap\", \"quantity\": 2}]";
+
+    ResultActions result = mockMvc.perform(patch("/checkOutItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(lines));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].outcome").value("CHECKED_OUT"))
+        .andExpect(jsonPath("$[1].outcome").value("REMOVED"));
+    assertEquals(6, beans.getQuantity());
+    verify(entityManager).remove(soap);
+    verify(transactionRepository).saveAll(any());
+  }
+
+  /**
+   * Test that the batch checkOutItems function applies nothing when a line is short.
+   */
+  @Test
+  public void testCheckOutItemsBatchShort() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    Item beans = new Item(new ItemId(center.getDatabaseId(), "FOOD", "Canned Beans"), 10,
+        center, "2024-01-01");
+    when(itemRepository.lockByStorageCenterAndNames(anyInt(), any()))
+        .thenReturn(List.of(beans));
+    String lines = "[{\"type\": \"FOOD\", \"name\": \"Canned Beans\", \"quantity\": 6},"
+        + "{\"type\": \"FOOD\", \"name\": \"Canned Beans\", \"quantity\": 6},"
+        + "{\"type\": \"FOOD\", \"name\": \"Canned Corn\", \"quantity\": 1}]";
+
+    ResultActions result = mockMvc.perform(patch("/checkOutItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(lines));
+    result.andExpect(status().isConflict())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].line").value(1))
+        .andExpect(jsonPath("$[0].outcome").value("SHORT"))
+        .andExpect(jsonPath("$[1].outcome").value("NOT_FOUND"));
+    verify(entityManager, never()).remove(any());
+    verify(transactionRepository, never()).saveAll(any());
+
+    result = mockMvc.perform(patch("/checkOutItems/batch")
+              .param("storageCenterId", "1")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("[{\"type\": \"INVALID\", \"name\": \"Canned Beans\", \"quantity\": 1}]"));
+    result.andExpect(status().isBadRequest());
+  }
+
   /**
    * Test the checkOutItems function with an invalid id.
    */
@@ -533,6 +841,49 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Test the listInventory function with a type filter and a name prefix.
+   */
+  @Test
+  public void testListInventoryFiltered() throws Exception {
+    ItemSummary beans = new ItemSummary(ItemType.FOOD, "Canned Beans", 10, null);
+    when(itemRepository.findInventory(eq(1), eq(ItemType.FOOD), eq("Can\\_%"),
+        eq(PageRequest.of(2, 1)))).thenReturn(new SliceImpl<>(List.of(beans),
+            PageRequest.of(2, 1), true));
+
+    ResultActions result = mockMvc.perform(get("/listInventory")
+              .param("storageCenterId", "1")
+              .param("page", "2")
+              .param("size", "1")
+              .param("type", "FOOD")
+              .param("namePrefix", "Can_"));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].name").value("Canned Beans"))
+        .andExpect(jsonPath("$.items[0].quantity").value(10))
+        .andExpect(jsonPath("$.hasNext").value(true));
+  }
+
+  /**
+   * Test the listInventory function with an invalid page, size or type.
+   */
+  @Test
+  public void testListInventoryInvalidParams() throws Exception {
+    ResultActions result = mockMvc.perform(get("/listInventory")
+              .param("storageCenterId", "1")
+              .param("page", "-1"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/listInventory")
+              .param("storageCenterId", "1")
+              .param("size", "1001"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/listInventory")
+              .param("storageCenterId", "1")
+              .param("type", "INVALID"));
+    result.andExpect(status().isBadRequest());
+  }
+
   /**
    * Test the listInventory function with an invalid id.
    */
@@ -553,6 +904,23 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Test that getCenterInfo keeps the name, description and operation hours format.
+   */
+  @Test
+  public void testGetCenterInfoBody() throws Exception {
+    StorageCenter center = new StorageCenter("CUFP", "Food Pantry");
+    center.updateDayHours(new TimeSlot("09:00", "17:00"), 1);
+    when(storageCenterRepository.findWithHoursById(1)).thenReturn(Optional.of(center));
+
+    mockMvc.perform(get("/getCenterInfo").param("storageCenterId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name").value("CUFP"))
+        .andExpect(jsonPath("$.description").value("Food Pantry"))
+        .andExpect(jsonPath("$.operationHours.MONDAY.start").value("09:00"))
+        .andExpect(jsonPath("$.operationHours.MONDAY.end").value("17:00"));
+  }
+
   /**
    * Test the getCenterInfo function with an invalid id.
    */
@@ -563,6 +931,40 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isNotFound());
   }
 
+  /**
+   * Test that listAllCenters returns a page of center summaries with their totals.
+   */
+  @Test
+  public void testListAllCenters() throws Exception {
+    LocalDate today = LocalDate.now();
+    CenterSummary summary = new CenterSummary(1, "CUFP", "Food Pantry",
+        LocalTime.of(9, 0), LocalTime.of(17, 0), 3, 42, 1);
+    when(storageCenterRepository.findSummaries(today.getDayOfWeek(), today,
+        today.plusDays(7), PageRequest.of(0, 1)))
+        .thenReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 1), true));
+
+    mockMvc.perform(get("/listAllCenters").param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.centers[0].id").value(1))
+        .andExpect(jsonPath("$.centers[0].name").value("CUFP"))
+        .andExpect(jsonPath("$.centers[0].opensToday").value("09:00"))
+        .andExpect(jsonPath("$.centers[0].closesToday").value("17:00"))
+        .andExpect(jsonPath("$.centers[0].itemCount").value(3))
+        .andExpect(jsonPath("$.centers[0].totalQuantity").value(42))
+        .andExpect(jsonPath("$.centers[0].expiringSoonCount").value(1))
+        .andExpect(jsonPath("$.centers[0].items").doesNotExist())
+        .andExpect(jsonPath("$.hasNext").value(true));
+  }
+
+  /**
+   * Test that listAllCenters rejects a page size over the limit.
+   */
+  @Test
+  public void testListAllCentersInvalidSize() throws Exception {
+    mockMvc.perform(get("/listAllCenters").param("size", "1001"))
+        .andExpect(status().isBadRequest());
+  }
+
   /**
    * Test the listExpiredItems function.
    */
@@ -571,6 +973,7 @@ public class StorageCenterControllerTests {
     ResultActions result = mockMvc.perform(get("/listExpiredItems")
             .param("storageCenterId", "1"));
     result.andExpect(status().isOk());
+    verify(itemRepository).findExpired(1, LocalDate.now());
   }
 
   /**
@@ -588,9 +991,81 @@ public class StorageCenterControllerTests {
    */
   @Test
   public void testRemoveExpiredItems() throws Exception {
+    Query logQuery = mock(Query.class);
+    when(entityManager.createQuery(anyString())).thenReturn(logQuery);
+    when(itemRepository.deleteExpired(anyInt(), eq(LocalDate.now()))).thenReturn(3);
     ResultActions result = mockMvc.perform(patch("/removeExpiredItems")
             .param("storageCenterId", "1"));
-    result.andExpect(status().isOk());
+    result.andExpect(status().isOk())
+        .andExpect(content().string("3 expired items removed"));
+    verify(entityManager).createQuery(
+        argThat((String query) -> query.startsWith("INSERT INTO Transaction")));
+    verify(logQuery).executeUpdate();
+    verify(inventoryTotalRepository).takeExpired(anyInt(), eq(LocalDate.now()));
+    verify(inventoryTotalRepository).refreshExpired(anyInt(), eq(LocalDate.now()));
+  }
+
+  /**
+   * Test the getInventoryTotals function.
+   */
+  @Test
+  public void testGetInventoryTotals() throws Exception {
+    when(storageCenterRepository.existsById(1)).thenReturn(true);
+    InventoryTotalId totalId = new InventoryTotalId(1, ItemId.ItemType.FOOD);
+    when(inventoryTotalRepository.findByStorageCenter(1)).thenReturn(
+        List.of(new InventoryTotal(totalId, 25, 2, LocalDate.of(2024, 1, 1))));
+    mockMvc.perform(get("/getInventoryTotals").param("storageCenterId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].type").value("FOOD"))
+        .andExpect(jsonPath("$[0].totalQuantity").value(25))
+        .andExpect(jsonPath("$[0].skuCount").value(2))
+        .andExpect(jsonPath("$[0].nextExpiration").value("2024-01-01"));
+  }
+
+  /**
+   * Test the getInventoryTotals function with an invalid id.
+   */
+  @Test
+  public void testGetInventoryTotalsInvalidId() throws Exception {
+    mockMvc.perform(get("/getInventoryTotals").param("storageCenterId", "2"))
+        .andExpect(status().isNotFound());
+  }
+
+  /**
+   * Test that rebuildInventoryTotals rebuilds one center, or every center without an ID.
+   */
+  @Test
+  public void testRebuildInventoryTotals() throws Exception {
+    when(storageCenterRepository.existsById(1)).thenReturn(true);
+    mockMvc.perform(post("/rebuildInventoryTotals").param("storageCenterId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.centersRebuilt").value(1));
+    verify(inventoryTotalRepository).deleteByStorageCenter(1);
+    verify(inventoryTotalRepository).insertFromItems(1);
+
+    when(storageCenterRepository.findIdsAfter(eq(0), any())).thenReturn(List.of(1, 2));
+    mockMvc.perform(post("/rebuildInventoryTotals"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.centersRebuilt").value(2));
+    verify(inventoryTotalRepository).insertFromItems(2);
+
+    mockMvc.perform(post("/rebuildInventoryTotals").param("storageCenterId", "2"))
+        .andExpect(status().isNotFound());
+  }
+
+  /**
+   * Test the expirationSweepStats function.
+   */
+  @Test
+  public void testExpirationSweepStats() throws Exception {
+    when(expirationSweeper.getLastRun()).thenReturn(
+        new SweepStats(LocalDateTime.of(2024, 1, 1, 3, 0), 4, 12, 1, 250));
+    ResultActions result = mockMvc.perform(get("/expirationSweepStats"));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.centersScanned").value(4))
+        .andExpect(jsonPath("$.itemsPurged").value(12))
+        .andExpect(jsonPath("$.failures").value(1))
+        .andExpect(jsonPath("$.durationMillis").value(250));
   }
 
   /**
@@ -613,6 +1088,171 @@ public class StorageCenterControllerTests {
     result.andExpect(status().isOk());
   }
 
+  /**
+   * Tests that listTransactions returns a page and the cursor for the next one.
+   */
+  @Test
+  public void testListTransactionsPaged() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    ItemId beans = new ItemId("FOOD", "Canned Beans");
+    List<Transaction> page = List.of(new Transaction(center, beans, 5, "Check In"),
+        new Transaction(center, beans, 3, "Check In"));
+    when(transactionPartitions.findPage(1, Instant.parse("2024-01-01T00:00:00Z"),
+        Instant.parse("2025-01-01T00:00:00Z"), "Check In", 7, 2))
+        .thenReturn(page);
+
+    ResultActions result = mockMvc.perform(get("/listTransactions")
+            .param("storageCenterId", "1")
+            .param("from", "2024-01-01")
+            .param("to", "2024-12-31")
+            .param("action", "Check In")
+            .param("afterId", "7")
+            .param("size", "2"));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.transactions.length()").value(2))
+        .andExpect(jsonPath("$.nextAfterId").exists());
+  }
+
+  /**
+   * Tests that listTransactions filters by days in UTC, the zone of the monthly tables,
+   * whatever the server's time zone.
+   */
+  @Test
+  public void testListTransactionsUtcDates() throws Exception {
+    TimeZone serverZone = TimeZone.getDefault();
+    TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+    try {
+      mockMvc.perform(get("/listTransactions")
+              .param("storageCenterId", "1")
+              .param("from", "2024-03-01")
+              .param("to", "2024-03-31"))
+          .andExpect(status().isOk());
+    } finally {
+      TimeZone.setDefault(serverZone);
+    }
+    verify(transactionPartitions).findPage(eq(1), eq(Instant.parse("2024-03-01T00:00:00Z")),
+        eq(Instant.parse("2024-04-01T00:00:00Z")), isNull(), eq(0), anyInt());
+  }
+
+  /**
+   * Tests the listTransactions function with an invalid size, date or format.
+   */
+  @Test
+  public void testListTransactionsInvalidParams() throws Exception {
+    ResultActions result = mockMvc.perform(get("/listTransactions")
+            .param("storageCenterId", "1")
+            .param("size", "0"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/listTransactions")
+            .param("storageCenterId", "1")
+            .param("from", "abc"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/listTransactions")
+            .param("storageCenterId", "1")
+            .param("format", "xml"));
+    result.andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests that listTransactions streams one JSON object per line in ndjson format.
+   */
+  @Test
+  public void testListTransactionsNdjson() throws Exception {
+    StorageCenter center = storageCenterRepository.findById(1).orElseThrow();
+    ItemId beans = new ItemId("FOOD", "Canned Beans");
+    List<Transaction> page = List.of(new Transaction(center, beans, 5, "Check In"),
+        new Transaction(center, beans, 3, "Check Out"));
+    when(transactionPartitions.findPage(eq(1), isNull(), isNull(), isNull(), eq(0), anyInt()))
+        .thenReturn(page);
+
+    MvcResult started = mockMvc.perform(get("/listTransactions")
+            .param("storageCenterId", "1")
+            .param("format", "ndjson"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String body = mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    String[] lines = body.split("\n");
+    assertEquals(2, lines.length);
+    for (String line : lines) {
+      assertTrue(line.startsWith("{"));
+    }
+    assertTrue(lines[1].contains("\"action\":\"Check Out\""));
+  }
+
+  /**
+   * Tests that transactionStats returns the summed flows of each day by item type.
+   */
+  @Test
+  public void testTransactionStats() throws Exception {
+    when(storageCenterRepository.existsById(1)).thenReturn(true);
+    List<Instant> bounds = List.of(Instant.parse("2024-01-01T00:00:00Z"),
+        Instant.parse("2024-01-02T00:00:00Z"), Instant.parse("2024-01-03T00:00:00Z"));
+    List<Object[]> rows = List.of(new Object[] {0, "FOOD", "Check In", 10L},
+        new Object[] {1, "FOOD", "Check Out", 4L},
+        new Object[] {1, "FOOD", "Removed from inventory", 6L});
+    when(transactionPartitions.sumByPeriod(1, bounds)).thenReturn(rows);
+
+    ResultActions result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "1")
+            .param("from", "2024-01-01")
+            .param("to", "2024-01-02"));
+    result.andExpect(status().isOk())
+        .andExpect(jsonPath("$.granularity").value("day"))
+        .andExpect(jsonPath("$.periods.length()").value(2))
+        .andExpect(jsonPath("$.periods[0].start").value("2024-01-01"))
+        .andExpect(jsonPath("$.periods[0].types.FOOD.checkedIn").value(10))
+        .andExpect(jsonPath("$.periods[1].types.FOOD.checkedOut").value(4))
+        .andExpect(jsonPath("$.periods[1].types.FOOD.removedFromInventory").value(6));
+  }
+
+  /**
+   * Tests the transactionStats function with an invalid granularity, date or range.
+   */
+  @Test
+  public void testTransactionStatsInvalidParams() throws Exception {
+    when(storageCenterRepository.existsById(1)).thenReturn(true);
+    ResultActions result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "1")
+            .param("from", "2024-01-01")
+            .param("to", "2024-01-31")
+            .param("granularity", "month"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "1")
+            .param("from", "abc")
+            .param("to", "2024-01-31"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "1")
+            .param("from", "2024-02-01")
+            .param("to", "2024-01-31"));
+    result.andExpect(status().isBadRequest());
+
+    result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "1")
+            .param("from", "2020-01-01")
+            .param("to", "2024-01-31"));
+    result.andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Test the transactionStats function with an invalid id.
+   */
+  @Test
+  public void testTransactionStatsInvalidId() throws Exception {
+    ResultActions result = mockMvc.perform(get("/transactionStats")
+            .param("storageCenterId", "2")
+            .param("from", "2024-01-01")
+            .param("to", "2024-01-31"));
+    result.andExpect(status().isNotFound());
+  }
+
   /**
    * Test the listTransactions function with an invalid id.
    */
@@ -709,7 +1349,7 @@ public class StorageCenterControllerTests {
    */
   @Test
   public void testUpdateCenterHoursServerFail() throws Exception {
-    when(storageCenterRepository.findById(1)).thenThrow(new RuntimeException());
+    when(storageCenterRepository.findWithHoursById(1)).thenThrow(new RuntimeException());
     ResultActions result = mockMvc.perform(patch("/updateCenterHours")
               .param("storageCenterId", "1")
               .param("day", "1")
@@ -763,10 +1403,12 @@ public class StorageCenterControllerTests {
    */
   @Test
   public void testGetCenterInfoServerFail() throws Exception {
-    when(storageCenterRepository.findById(1)).thenThrow(new RuntimeException());
+    when(storageCenterRepository.findWithHoursById(1))
+        .thenThrow(new RuntimeException("Database down"));
     ResultActions result = mockMvc.perform(get("/getCenterInfo")
               .param("storageCenterId", "1"));
-    result.andExpect(status().isInternalServerError());
+    result.andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.error").value("Database down"));
   }
 
 
@@ -0,0 +1,41 @@
+package com.smartprogrammingbaddies.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PooledIdGenerator class.
+ */
+public class PooledIdGeneratorUnitTests {
+
+  /**
+   * Tests that a sequence without a property gets the default allocation size.
+   */
+  @Test
+  public void defaultAllocationSizeTest() {
+    assertEquals(PooledIdGenerator.DEFAULT_ALLOCATION_SIZE,
+        PooledIdGenerator.allocationSize(null));
+  }
+
+  /**
+   * Tests that the allocation size is read from a number or a string.
+   */
+  @Test
+  public void allocationSizeTest() {
+    assertEquals(500, PooledIdGenerator.allocationSize("500"));
+    assertEquals(20, PooledIdGenerator.allocationSize(" 20 "));
+    assertEquals(10, PooledIdGenerator.allocationSize(10));
+  }
+
+  /**
+   * Tests that an allocation size that is not a positive number is rejected.
+   */
+  @Test
+  public void invalidAllocationSizeTest() {
+    assertThrows(IllegalArgumentException.class, () -> PooledIdGenerator.allocationSize("0"));
+    assertThrows(IllegalArgumentException.class, () -> PooledIdGenerator.allocationSize("-5"));
+    assertThrows(IllegalArgumentException.class, () -> PooledIdGenerator.allocationSize("abc"));
+  }
+}